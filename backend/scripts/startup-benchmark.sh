@@ -0,0 +1,87 @@
+#!/usr/bin/env sh
+# Measures time-to-first-request: starts the backend, polls READY_PATH until the
+# first HTTP response, then times the first real requests (database and the lazily
+# created Google OAuth flow), which pay for work deferred past startup.
+# Repeats RUNS times and prints the averages.
+#
+# Usage: scripts/startup-benchmark.sh <command that starts the backend...>
+#   scripts/startup-benchmark.sh java -jar target/assistant-0.0.1-SNAPSHOT.jar
+#   scripts/startup-benchmark.sh docker run --rm -p 9090:9090 --env-file .env assistant
+#
+# Environment: BASE_URL (default http://localhost:9090), READY_PATH (default /),
+#   REQUEST_PATHS (default "/api/events /login/google", empty to skip),
+#   RUNS (default 5), TIMEOUT_SECONDS (default 120)
+# Needs a POSIX shell, curl, and GNU date or perl for millisecond timestamps.
+
+BASE_URL=${BASE_URL:-http://localhost:9090}
+READY_PATH=${READY_PATH:-/}
+REQUEST_PATHS=${REQUEST_PATHS-/api/events /login/google}
+RUNS=${RUNS:-5}
+TIMEOUT_SECONDS=${TIMEOUT_SECONDS:-120}
+
+if [ $# -eq 0 ]; then
+    sed -n '2,14p' "$0"
+    exit 1
+fi
+
+# date +%N is GNU only (BSD/macOS date prints a literal N), fall back to perl there
+case "$(date +%N)" in
+    *[!0-9]*|'')
+        if ! command -v perl > /dev/null 2>&1; then
+            echo "Needs GNU date or perl for millisecond timestamps"
+            exit 1
+        fi
+        now_ms() {
+            perl -MTime::HiRes=time -e 'printf "%d\n", time() * 1000'
+        }
+        ;;
+    *)
+        now_ms() {
+            date +%s%3N
+        }
+        ;;
+esac
+
+ready_total=0
+request_total=0
+run=1
+while [ "$run" -le "$RUNS" ]; do
+    start=$(now_ms)
+    "$@" > startup-benchmark.log 2>&1 &
+    pid=$!
+
+    # Any HTTP status counts as up, -w prints 000 while the port is closed
+    deadline=$((start + TIMEOUT_SECONDS * 1000))
+    until [ "$(curl -s -o /dev/null -w '%{http_code}' "$BASE_URL$READY_PATH")" != "000" ]; do
+        if [ "$(now_ms)" -gt "$deadline" ] || ! kill -0 "$pid" 2>/dev/null; then
+            echo "Run $run: no response from $BASE_URL$READY_PATH, see startup-benchmark.log"
+            kill "$pid" 2>/dev/null
+            exit 1
+        fi
+        sleep 0.02
+    done
+    ready=$(($(now_ms) - start))
+
+    for path in $REQUEST_PATHS; do
+        status=$(curl -s -o /dev/null -w '%{http_code}' --max-time "$TIMEOUT_SECONDS" "$BASE_URL$path")
+        case "$status" in
+            2??|3??) ;;
+            *)
+                echo "Run $run: $BASE_URL$path returned $status, see startup-benchmark.log"
+                kill "$pid" 2>/dev/null
+                exit 1
+                ;;
+        esac
+    done
+    served=$(($(now_ms) - start))
+
+    kill "$pid" 2>/dev/null
+    wait "$pid" 2>/dev/null
+    echo "Run $run: ready after ${ready} ms, first requests served after ${served} ms"
+    ready_total=$((ready_total + ready))
+    request_total=$((request_total + served))
+    run=$((run + 1))
+done
+
+echo "Average over $RUNS runs: ready after $((ready_total / RUNS)) ms," \
+    "first requests ($REQUEST_PATHS) served after $((request_total / RUNS)) ms"
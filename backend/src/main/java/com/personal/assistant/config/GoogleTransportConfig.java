@@ -0,0 +1,38 @@
+package com.personal.assistant.config;
+
+import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
+import com.google.api.client.http.HttpTransport;
+import com.personal.assistant.transport.JdkHttpTransport;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+
+@Configuration
+public class GoogleTransportConfig {
+
+    // "jdk" = pooled HTTP/2 JDK HttpClient, "net" = legacy HttpURLConnection transport
+    @Value("${google.http.transport:jdk}")
+    private String transportType;
+
+    // Also the bound on open connections, see JdkHttpTransport
+    @Value("${google.http.max-concurrent-requests:16}")
+    private int maxConcurrentRequests;
+
+    @Value("${google.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMillis;
+
+    // Lazy: building a transport loads trust stores, so only do it on the first Google call
+    @Bean
+    @Lazy
+    public HttpTransport googleHttpTransport() throws GeneralSecurityException, IOException {
+        if ("net".equalsIgnoreCase(transportType)) {
+            return GoogleNetHttpTransport.newTrustedTransport();
+        }
+        return new JdkHttpTransport(maxConcurrentRequests, Duration.ofMillis(connectTimeoutMillis));
+    }
+}
@@ -1,6 +1,7 @@
 package com.personal.assistant.controller;
 
 import com.personal.assistant.service.GmailService;
+import com.personal.assistant.service.PollRateTracker;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -12,12 +13,14 @@ import java.io.IOException;
 public class AuthController {
 
     private final GmailService gmailService;
+    private final PollRateTracker pollRateTracker;
 
     @org.springframework.beans.factory.annotation.Value("${frontend.url:http://localhost:5173}")
     private String frontendUrl;
 
-    public AuthController(GmailService gmailService) {
+    public AuthController(GmailService gmailService, PollRateTracker pollRateTracker) {
         this.gmailService = gmailService;
+        this.pollRateTracker = pollRateTracker;
     }
 
     @GetMapping("/login/google")
@@ -29,6 +32,7 @@ public class AuthController {
     @GetMapping("/login/oauth2/code/google")
     public void callback(@RequestParam("code") String code, HttpServletResponse response) throws IOException {
         gmailService.exchangeCode(code);
+        pollRateTracker.forget("me"); // Poll on the next check instead of waiting out a backoff
         response.sendRedirect(frontendUrl + "/dashboard"); // Redirect to Frontend Dashboard
     }
 
@@ -40,6 +44,7 @@ public class AuthController {
     @org.springframework.web.bind.annotation.PostMapping("/logout")
     public void logout(HttpServletResponse response) {
         gmailService.clearUserData();
+        pollRateTracker.forget("me");
         response.setStatus(HttpServletResponse.SC_OK);
     }
 }
@@ -2,34 +2,130 @@ package com.personal.assistant.controller;
 
 import com.personal.assistant.entity.JobEvent;
 import com.personal.assistant.repository.JobEventRepository;
+import com.personal.assistant.service.EventSearchIndex;
+import com.personal.assistant.service.EventStatsService;
 import com.personal.assistant.service.GmailService;
+import com.personal.assistant.service.PollRateTracker;
+import com.personal.assistant.service.UpcomingEventCache;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/events")
 @CrossOrigin(origins = { "http://localhost:5173", "https://mail-automation-brown.vercel.app" }) // Allow React Frontend
 public class EventController {
 
+    private static final int MAX_SEARCH_ATTEMPTS = 3;
+
     @Autowired
     private JobEventRepository jobEventRepository;
 
     @Autowired
     private GmailService gmailService;
 
+    @Autowired
+    private PollRateTracker pollRateTracker;
+
+    @Autowired
+    private UpcomingEventCache upcomingEventCache;
+
+    @Autowired
+    private EventStatsService eventStatsService;
+
+    @Autowired
+    private EventSearchIndex eventSearchIndex;
+
     @GetMapping
     public List<JobEvent> getAllEvents() {
         return jobEventRepository.findAll();
     }
 
+    // Served from memory, ordered by event date
+    @GetMapping("/upcoming")
+    public List<JobEvent> getUpcomingEvents() {
+        return upcomingEventCache.getUpcoming("me");
+    }
+
+    // Events that have already started, newest first, one page at a time
+    @GetMapping("/past")
+    public List<JobEvent> getPastEvents(@RequestParam(name = "page", defaultValue = "0") int page,
+            @RequestParam(name = "size", defaultValue = "20") int size) {
+        return jobEventRepository.findPast(LocalDateTime.now(),
+                PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, 100))));
+    }
+
+    // Counts by type, week and sender domain plus the next few events
+    @GetMapping("/stats")
+    public Map<String, Object> getStats(@RequestParam(name = "upcoming", defaultValue = "5") int upcoming) {
+        return eventStatsService.getStats("me", upcoming);
+    }
+
+    // Full-text search over company, subject, sender, link domain and body, best match first
+    @GetMapping("/search")
+    public List<JobEvent> search(@RequestParam("q") String query,
+            @RequestParam(name = "limit", defaultValue = "20") int limit) throws IOException {
+        int size = Math.max(1, Math.min(limit, 100));
+        List<JobEvent> results = new ArrayList<>();
+        // Hits for rows deleted outside sync are dropped from the index and the search re-run,
+        // so they don't eat into the limit. Bounded in case the index keeps disagreeing.
+        for (int attempt = 0; attempt < MAX_SEARCH_ATTEMPTS; attempt++) {
+            List<Long> ids = eventSearchIndex.search(query, size);
+            Map<Long, JobEvent> byId = new HashMap<>();
+            for (JobEvent event : jobEventRepository.findAllById(ids)) {
+                byId.put(event.getId(), event);
+            }
+            results.clear();
+            List<Long> orphans = new ArrayList<>();
+            for (Long id : ids) {
+                if (byId.containsKey(id)) {
+                    results.add(byId.get(id));
+                } else {
+                    orphans.add(id);
+                }
+            }
+            if (orphans.isEmpty()) {
+                break;
+            }
+            // The searcher only shows documents committed after their rows, so a missing row
+            // was deleted; checked once more so a row committed meanwhile is never purged,
+            // the next pass picks it up instead
+            for (JobEvent event : jobEventRepository.findAllById(orphans)) {
+                orphans.remove(event.getId());
+            }
+            if (!orphans.isEmpty()) {
+                eventSearchIndex.removeIds(orphans);
+                eventSearchIndex.commit();
+            }
+        }
+        return results;
+    }
+
     @PostMapping("/sync")
     public void syncEvents() {
-        gmailService.fetchAndSaveNewEvents();
+        int newEvents = gmailService.fetchAndSaveNewEvents();
+        if (newEvents == GmailService.SYNC_FAILED) {
+            pollRateTracker.recordFailure("me", System.currentTimeMillis());
+        } else {
+            pollRateTracker.recordPoll("me", newEvents, System.currentTimeMillis());
+        }
+    }
+
+    // Current adaptive poll interval per account
+    @GetMapping("/poll-status")
+    public Map<String, Map<String, Object>> getPollStatus() {
+        return pollRateTracker.getStatus();
     }
 }
@@ -3,9 +3,16 @@ package com.personal.assistant.entity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_job_event_reminder", columnList = "isReminded, eventDate"),
+        @Index(name = "idx_job_event_date", columnList = "eventDate"),
+        @Index(name = "idx_job_event_type", columnList = "eventType")
+})
 public class JobEvent {
     @Id
     @GeneratedValue
@@ -1,19 +1,57 @@
 package com.personal.assistant.repository;
 
 import com.personal.assistant.entity.JobEvent;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface JobEventRepository extends JpaRepository<JobEvent, Long> {
     List<JobEvent> findByEventDateAfterOrderByEventDateAsc(LocalDateTime date);
 
-    void deleteByCreatedAtBefore(LocalDateTime expiryDate);
+    // Dashboard history, newest first, read a page at a time off the event_date index
+    @Query("SELECT e FROM JobEvent e WHERE e.eventDate IS NULL OR e.eventDate <= :now"
+            + " ORDER BY e.eventDate DESC NULLS LAST, e.id DESC")
+    List<JobEvent> findPast(@Param("now") LocalDateTime now, Pageable page);
+
+    // Range scan on the (is_reminded, event_date) index, used to rebuild the reminder wheel
+    @Query("SELECT e FROM JobEvent e WHERE e.isReminded = false AND e.eventDate > :from ORDER BY e.eventDate ASC")
+    List<JobEvent> findPendingReminders(@Param("from") LocalDateTime from);
+
+    // Returns the removed rows so in-memory structures can drop them too
+    List<JobEvent> deleteByCreatedAtBefore(LocalDateTime expiryDate);
 
     boolean existsByMessageId(String messageId);
 
-    void deleteByMessageIdIsNull();
+    // Search index reconciliation on startup
+    @Query("SELECT e.id FROM JobEvent e")
+    List<Long> findAllIds();
+
+    List<JobEvent> deleteByMessageIdIsNull();
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE JobEvent e SET e.isReminded = true WHERE e.id IN :ids")
+    int markReminded(@Param("ids") Collection<Long> ids);
+
+    // Dashboard statistics, aggregated in the database. Rows are [key, count].
+    @Query("SELECT e.eventType, COUNT(e) FROM JobEvent e GROUP BY e.eventType")
+    List<Object[]> countByEventType();
+
+    @Query("SELECT trunc(e.eventDate, week), COUNT(e) FROM JobEvent e WHERE e.eventDate IS NOT NULL"
+            + " GROUP BY trunc(e.eventDate, week) ORDER BY trunc(e.eventDate, week) DESC")
+    List<Object[]> countByWeek(Pageable limit);
+
+    // sender_domain is a generated column (see V3 migration), not mapped on the entity
+    @Query(value = "SELECT sender_domain, COUNT(*) FROM job_event WHERE sender_domain IS NOT NULL"
+            + " GROUP BY sender_domain ORDER BY COUNT(*) DESC", nativeQuery = true)
+    List<Object[]> countBySenderDomain(Pageable limit);
 }
@@ -1,6 +1,9 @@
 package com.personal.assistant.scheduler;
 
+import com.personal.assistant.entity.UserCredential;
+import com.personal.assistant.repository.UserCredentialRepository;
 import com.personal.assistant.service.GmailService;
+import com.personal.assistant.service.PollRateTracker;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -8,21 +11,41 @@ import org.springframework.stereotype.Component;
 public class EmailPoller {
 
     private final GmailService gmailService;
+    private final PollRateTracker pollRateTracker;
+    private final UserCredentialRepository userCredentialRepository;
 
-    public EmailPoller(GmailService gmailService) {
+    public EmailPoller(GmailService gmailService, PollRateTracker pollRateTracker,
+            UserCredentialRepository userCredentialRepository) {
         this.gmailService = gmailService;
+        this.pollRateTracker = pollRateTracker;
+        this.userCredentialRepository = userCredentialRepository;
     }
 
-    // Runs every 4 hours (14400000 ms)
-    @Scheduled(fixedRate = 600000)
+    // Checks every 30 seconds which accounts are due; each account's interval
+    // adapts to its mail arrival rate (see PollRateTracker)
+    @Scheduled(fixedDelayString = "${poller.check-ms:30000}")
     public void scanInbox() {
-        System.out.println("Polling Gmail for new events...");
-        try {
-            gmailService.fetchAndSaveNewEvents();
-        } catch (Exception e) {
-            System.err.println("Failed to poll Gmail: " + e.getMessage());
-            // Log full stack trace if needed, but for now simple error message suffices
-            e.printStackTrace();
+        for (UserCredential credential : userCredentialRepository.findAll()) {
+            String accountId = credential.getUserId();
+            long now = System.currentTimeMillis();
+            if (!pollRateTracker.isDue(accountId, now)) {
+                continue;
+            }
+            System.out.println("Polling Gmail for new events (" + accountId + ")...");
+            int newEvents = GmailService.SYNC_FAILED;
+            try {
+                newEvents = gmailService.fetchAndSaveNewEvents();
+            } catch (Exception e) {
+                System.err.println("Failed to poll Gmail: " + e.getMessage());
+                // Log full stack trace if needed, but for now simple error message suffices
+                e.printStackTrace();
+            }
+            // A failed poll is not a quiet one, it must not back the account off
+            if (newEvents == GmailService.SYNC_FAILED) {
+                pollRateTracker.recordFailure(accountId, System.currentTimeMillis());
+            } else {
+                pollRateTracker.recordPoll(accountId, newEvents, System.currentTimeMillis());
+            }
         }
     }
 }
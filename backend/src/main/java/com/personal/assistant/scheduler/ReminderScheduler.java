@@ -0,0 +1,26 @@
+package com.personal.assistant.scheduler;
+
+import com.personal.assistant.service.ReminderService;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+public class ReminderScheduler {
+
+    private final ReminderService reminderService;
+
+    public ReminderScheduler(ReminderService reminderService) {
+        this.reminderService = reminderService;
+    }
+
+    // Advances the reminder wheel once per tick (1 minute by default)
+    @Scheduled(fixedRateString = "${reminder.tick-ms:60000}")
+    public void tick() {
+        try {
+            reminderService.dispatchDue();
+        } catch (Exception e) {
+            System.err.println("Failed to dispatch reminders: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -39,10 +39,17 @@ public class EmailParser {
     private final Pattern linkPattern = Pattern.compile(LINK_REGEX, Pattern.CASE_INSENSITIVE);
 
     public Map<String, String> parseEmail(String subject, String bodyHtml) {
+        return parsePlainText(subject, toPlainText(bodyHtml));
+    }
+
+    // Clean HTML to text
+    public String toPlainText(String bodyHtml) {
+        return Jsoup.parse(bodyHtml).text();
+    }
+
+    public Map<String, String> parsePlainText(String subject, String plainText) {
         Map<String, String> extractedData = new HashMap<>();
 
-        // Clean HTML to text
-        String plainText = Jsoup.parse(bodyHtml).text();
         String content = subject + " " + plainText; // Search in both
 
         // Extract Date
@@ -0,0 +1,361 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.Bits;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Embedded Lucene index over events: company, subject, sender, link/sender domains
+// and the email body text (which is not stored in the database, only indexed here).
+// Kept in step with job_event by the sync pipeline.
+@Service
+public class EventSearchIndex {
+
+    private static final String ID = "id";
+    private static final String COMPANY = "company";
+    private static final String SUBJECT = "subject";
+    private static final String SENDER = "sender";
+    private static final String DOMAIN = "domain";
+    private static final String BODY = "body";
+    // Everything except the body in one field, for prefix and typo matching
+    private static final String META = "meta";
+
+    // Field boosts: a hit on the company name counts more than one deep in the body
+    private static final Map<String, Float> FIELDS = Map.of(
+            COMPANY, 3.0f, SUBJECT, 2.0f, SENDER, 1.5f, DOMAIN, 1.5f, BODY, 1.0f);
+
+    // Rows loaded per query when re-indexing from the database
+    private static final int RECONCILE_BATCH_SIZE = 1000;
+
+    // Leading characters a typo match must share with the query word
+    private static final int FUZZY_PREFIX_LENGTH = 2;
+
+    private final JobEventRepository jobEventRepository;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    @Value("${search.index-dir:data/search-index}")
+    private String indexDir;
+
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+
+    public EventSearchIndex(JobEventRepository jobEventRepository) {
+        this.jobEventRepository = jobEventRepository;
+    }
+
+    // Open the index and bring it in line with job_event by comparing ids (counts
+    // alone can match by accident): rows deleted outside sync (e.g. clear_events.sql)
+    // leave orphan documents, and a new container starts empty. Re-added rows have
+    // no body text, that only comes from Gmail. A failure here is logged, it must
+    // not stop the application from starting.
+    @EventListener(ApplicationReadyEvent.class)
+    public void open() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            System.err.println("Failed to reconcile search index: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    private void reconcile() throws IOException {
+        IndexWriter indexWriter = getWriter();
+        Set<Long> indexed = indexedIds();
+        Set<Long> stored = new HashSet<>(jobEventRepository.findAllIds());
+        List<Long> orphans = new ArrayList<>();
+        for (Long id : indexed) {
+            if (!stored.contains(id)) {
+                orphans.add(id);
+            }
+        }
+        removeIds(orphans);
+
+        stored.removeAll(indexed);
+        if (orphans.isEmpty() && stored.isEmpty()) {
+            return;
+        }
+        // Loaded in id order, a chunk at a time, to keep each IN list and result small
+        List<Long> missing = new ArrayList<>(stored);
+        Collections.sort(missing);
+        for (int from = 0; from < missing.size(); from += RECONCILE_BATCH_SIZE) {
+            List<Long> chunk = missing.subList(from, Math.min(from + RECONCILE_BATCH_SIZE, missing.size()));
+            for (JobEvent event : jobEventRepository.findAllById(chunk)) {
+                indexWriter.updateDocument(new Term(ID, String.valueOf(event.getId())), toDocument(event, null));
+            }
+        }
+        commit();
+        System.out.println("Search index reconciled: removed " + orphans.size() + " orphans, indexed "
+                + missing.size() + " events");
+    }
+
+    public void index(JobEvent event, String bodyText) {
+        try {
+            getWriter().updateDocument(new Term(ID, String.valueOf(event.getId())), toDocument(event, bodyText));
+        } catch (IOException e) {
+            System.err.println("Failed to index event " + event.getId() + ": " + e.getMessage());
+        }
+    }
+
+    public void remove(List<JobEvent> events) {
+        List<Long> ids = new ArrayList<>();
+        for (JobEvent event : events) {
+            ids.add(event.getId());
+        }
+        removeIds(ids);
+    }
+
+    // Visible to searches after the next commit()
+    public void removeIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        Term[] terms = new Term[ids.size()];
+        int i = 0;
+        for (Long id : ids) {
+            terms[i++] = new Term(ID, String.valueOf(id));
+        }
+        try {
+            getWriter().deleteDocuments(terms);
+        } catch (IOException e) {
+            System.err.println("Failed to remove events from search index: " + e.getMessage());
+        }
+    }
+
+    public void clear() {
+        try {
+            getWriter().deleteAll();
+            commit();
+        } catch (IOException e) {
+            System.err.println("Failed to clear search index: " + e.getMessage());
+        }
+    }
+
+    // Makes changes durable and visible to searches; called once per sync, after the
+    // database commit
+    public void commit() {
+        try {
+            getWriter().commit();
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            System.err.println("Failed to commit search index: " + e.getMessage());
+        }
+    }
+
+    // Returns matching event ids, best match first.
+    // Every query word must match some field exactly or as a prefix. Only when
+    // that finds nothing is the query retried allowing typos, since building
+    // the fuzzy automata is the expensive part of a search.
+    public List<Long> search(String queryText, int limit) throws IOException {
+        List<String> terms = analyze(queryText);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        getWriter();
+        // Not refreshed here: searches only see what commit() published, which the
+        // sync calls once the database transaction has committed
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            ScoreDoc[] hits = searcher.search(buildQuery(searcher, terms, false), limit).scoreDocs;
+            if (hits.length == 0) {
+                hits = searcher.search(buildQuery(searcher, terms, true), limit).scoreDocs;
+            }
+            List<Long> ids = new ArrayList<>();
+            for (ScoreDoc hit : hits) {
+                ids.add(Long.valueOf(searcher.storedFields().document(hit.doc).get(ID)));
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            searcherManager.close();
+            writer.close(); // Commits pending changes
+            writer = null;
+        }
+    }
+
+    private synchronized IndexWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new IndexWriter(FSDirectory.open(Paths.get(indexDir)), new IndexWriterConfig(analyzer));
+            searcherManager = new SearcherManager(writer, null);
+        }
+        return writer;
+    }
+
+    private Set<Long> indexedIds() throws IOException {
+        Set<Long> ids = new HashSet<>();
+        searcherManager.maybeRefresh();
+        IndexSearcher searcher = searcherManager.acquire();
+        try {
+            for (LeafReaderContext leaf : searcher.getIndexReader().leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                StoredFields storedFields = leaf.reader().storedFields();
+                for (int doc = 0; doc < leaf.reader().maxDoc(); doc++) {
+                    if (liveDocs == null || liveDocs.get(doc)) {
+                        ids.add(Long.valueOf(storedFields.document(doc, Set.of(ID)).get(ID)));
+                    }
+                }
+            }
+            return ids;
+        } finally {
+            searcherManager.release(searcher);
+        }
+    }
+
+    private Query buildQuery(IndexSearcher searcher, List<String> terms, boolean fuzzy) throws IOException {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        for (String term : terms) {
+            // Words that exist as typed are not the typo, don't expand them
+            boolean misspelt = fuzzy && !existsExactly(searcher, term);
+            query.add(termQuery(term, misspelt), BooleanClause.Occur.MUST);
+        }
+        return query.build();
+    }
+
+    private static boolean existsExactly(IndexSearcher searcher, String term) throws IOException {
+        for (String field : FIELDS.keySet()) {
+            if (searcher.getIndexReader().docFreq(new Term(field, term)) > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Query termQuery(String term, boolean fuzzy) {
+        BooleanQuery.Builder anyField = new BooleanQuery.Builder();
+        // Exact hits score per field, so the company name outranks the body
+        for (Map.Entry<String, Float> field : FIELDS.entrySet()) {
+            anyField.add(new BoostQuery(new TermQuery(new Term(field.getKey(), term)), field.getValue() * 2),
+                    BooleanClause.Occur.SHOULD);
+        }
+        anyField.add(new PrefixQuery(new Term(META, term)), BooleanClause.Occur.SHOULD);
+        anyField.add(new BoostQuery(new PrefixQuery(new Term(BODY, term)), 0.5f), BooleanClause.Occur.SHOULD);
+
+        // Typo matching skips the body, its vocabulary is too large to stay fast
+        int maxEdits = term.length() >= 10 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (fuzzy && maxEdits > 0) {
+            anyField.add(new BoostQuery(new FuzzyQuery(new Term(META, term), maxEdits, FUZZY_PREFIX_LENGTH), 0.5f),
+                    BooleanClause.Occur.SHOULD);
+        }
+        return anyField.build();
+    }
+
+    private Document toDocument(JobEvent event, String bodyText) {
+        Document doc = new Document();
+        doc.add(new StringField(ID, String.valueOf(event.getId()), Field.Store.YES));
+        addText(doc, COMPANY, event.getCompanyName());
+        addText(doc, SUBJECT, event.getSubject());
+        addText(doc, SENDER, event.getSenderEmail());
+        addText(doc, BODY, bodyText);
+
+        Set<String> domains = new LinkedHashSet<>();
+        addDomain(domains, emailDomain(event.getSenderEmail()));
+        addDomain(domains, linkHost(event.getActionLink()));
+        String domainText = String.join(" ", domains);
+        addText(doc, DOMAIN, domainText);
+
+        addText(doc, META, String.join(" ", nullToEmpty(event.getCompanyName()), nullToEmpty(event.getSubject()),
+                nullToEmpty(event.getSenderEmail()), domainText));
+        return doc;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            doc.add(new TextField(field, value, Field.Store.NO));
+        }
+    }
+
+    // "careers.acme.co.uk" -> careers.acme.co.uk, acme.co.uk, co.uk, careers, acme
+    // so a search for "acme" or "acme.co.uk" finds links on any subdomain
+    private static void addDomain(Set<String> domains, String host) {
+        if (host == null || host.isBlank()) {
+            return;
+        }
+        String[] labels = host.toLowerCase().replaceFirst("^www\\.", "").split("\\.");
+        for (int i = 0; i < labels.length - 1; i++) {
+            domains.add(String.join(".", Arrays.copyOfRange(labels, i, labels.length)));
+            domains.add(labels[i]);
+        }
+    }
+
+    private static String emailDomain(String email) {
+        if (email == null || !email.contains("@")) {
+            return null;
+        }
+        return email.substring(email.indexOf('@') + 1);
+    }
+
+    private static String linkHost(String link) {
+        if (link == null) {
+            return null;
+        }
+        try {
+            return URI.create(link.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private List<String> analyze(String text) throws IOException {
+        List<String> terms = new ArrayList<>();
+        try (TokenStream stream = analyzer.tokenStream(BODY, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+            while (stream.incrementToken()) {
+                terms.add(term.toString());
+            }
+            stream.end();
+        }
+        return terms;
+    }
+}
@@ -0,0 +1,94 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Dashboard counters computed with GROUP BY queries and cached per user until
+// a sync changes job_event. The payload has a fixed upper size however many events exist.
+@Service
+public class EventStatsService {
+
+    private final JobEventRepository jobEventRepository;
+    private final UpcomingEventCache upcomingEventCache;
+    private final Map<String, Map<String, Object>> aggregates = new ConcurrentHashMap<>();
+
+    @Value("${stats.max-weeks:12}")
+    private int maxWeeks;
+
+    @Value("${stats.max-domains:10}")
+    private int maxDomains;
+
+    @Value("${stats.max-upcoming:20}")
+    private int maxUpcoming;
+
+    public EventStatsService(JobEventRepository jobEventRepository, UpcomingEventCache upcomingEventCache) {
+        this.jobEventRepository = jobEventRepository;
+        this.upcomingEventCache = upcomingEventCache;
+    }
+
+    public Map<String, Object> getStats(String userId, int upcomingCount) {
+        Map<String, Object> stats = new LinkedHashMap<>(aggregates.computeIfAbsent(userId, id -> computeAggregates()));
+
+        // Upcoming events come from the read cache, so they stay current between syncs
+        List<JobEvent> upcoming = upcomingEventCache.getUpcoming(userId);
+        int limit = Math.max(0, Math.min(upcomingCount, maxUpcoming));
+        stats.put("upcoming", new ArrayList<>(upcoming.subList(0, Math.min(limit, upcoming.size()))));
+        return stats;
+    }
+
+    public void invalidate(String userId) {
+        aggregates.remove(userId);
+    }
+
+    private Map<String, Object> computeAggregates() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+
+        long total = 0;
+        Map<String, Long> byType = new LinkedHashMap<>();
+        for (Object[] row : jobEventRepository.countByEventType()) {
+            String type = row[0] != null ? (String) row[0] : "Other";
+            long count = (Long) row[1];
+            byType.merge(type, count, Long::sum);
+            total += count;
+        }
+        stats.put("total", total);
+        stats.put("byType", byType);
+
+        List<Map<String, Object>> byWeek = new ArrayList<>();
+        for (Object[] row : jobEventRepository.countByWeek(PageRequest.ofSize(maxWeeks))) {
+            Map<String, Object> week = new LinkedHashMap<>();
+            week.put("weekStart", toDate(row[0]));
+            week.put("count", row[1]);
+            byWeek.add(week);
+        }
+        stats.put("byWeek", byWeek);
+
+        List<Map<String, Object>> byDomain = new ArrayList<>();
+        for (Object[] row : jobEventRepository.countBySenderDomain(PageRequest.ofSize(maxDomains))) {
+            Map<String, Object> domain = new LinkedHashMap<>();
+            domain.put("domain", row[0]);
+            domain.put("count", row[1]);
+            byDomain.add(domain);
+        }
+        stats.put("bySenderDomain", byDomain);
+        return stats;
+    }
+
+    private static LocalDate toDate(Object value) {
+        if (value instanceof java.sql.Timestamp timestamp) {
+            return timestamp.toLocalDateTime().toLocalDate();
+        }
+        return LocalDate.from((Temporal) value);
+    }
+}
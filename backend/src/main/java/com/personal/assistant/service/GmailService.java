@@ -4,8 +4,7 @@ import com.google.api.client.auth.oauth2.TokenResponse;
 import com.google.api.client.googleapis.auth.oauth2.GoogleAuthorizationCodeFlow;
 import com.google.api.client.googleapis.auth.oauth2.GoogleClientSecrets;
 import com.google.api.client.googleapis.auth.oauth2.GoogleCredential;
-import com.google.api.client.googleapis.javanet.GoogleNetHttpTransport;
-import com.google.api.client.http.javanet.NetHttpTransport;
+import com.google.api.client.http.HttpTransport;
 import com.google.api.client.json.JsonFactory;
 import com.google.api.client.json.gson.GsonFactory;
 import com.google.api.client.util.store.MemoryDataStoreFactory;
@@ -18,8 +17,11 @@ import com.personal.assistant.entity.UserCredential;
 import com.personal.assistant.repository.JobEventRepository;
 import com.personal.assistant.repository.UserCredentialRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.time.Instant;
@@ -34,11 +36,17 @@ import java.util.Optional;
 @Service
 public class GmailService {
 
+    public static final int SYNC_FAILED = -1;
+
     private static final String APPLICATION_NAME = "Personal Assistant";
     private static final JsonFactory JSON_FACTORY = GsonFactory.getDefaultInstance();
     private static final List<String> SCOPES = Collections
             .singletonList("https://www.googleapis.com/auth/gmail.readonly");
 
+    // Partial responses: only request the fields we actually read
+    private static final String LIST_FIELDS = "messages(id),nextPageToken";
+    private static final String GET_FIELDS = "id,internalDate,payload(headers(name,value),body,parts(mimeType,body))";
+
     @Value("${google.client.client-id}")
     private String clientId;
 
@@ -48,21 +56,35 @@ public class GmailService {
     @Value("${google.client.redirect-uri}")
     private String redirectUri;
 
+    @Value("${google.http.connect-timeout-ms:5000}")
+    private int connectTimeoutMillis;
+
+    @Value("${google.http.read-timeout-ms:20000}")
+    private int readTimeoutMillis;
+
     private final UserCredentialRepository userCredentialRepository;
     private final JobEventRepository jobEventRepository;
     private final EmailParser emailParser;
-    private NetHttpTransport httpTransport;
+    private final ReminderService reminderService;
+    private final UpcomingEventCache upcomingEventCache;
+    private final EventStatsService eventStatsService;
+    private final EventSearchIndex eventSearchIndex;
+    private final ObjectProvider<HttpTransport> httpTransportProvider;
+    private volatile GoogleAuthorizationCodeFlow flow;
 
     public GmailService(UserCredentialRepository userCredentialRepository, JobEventRepository jobEventRepository,
-            EmailParser emailParser) {
+            EmailParser emailParser, ReminderService reminderService, UpcomingEventCache upcomingEventCache,
+            EventStatsService eventStatsService, EventSearchIndex eventSearchIndex,
+            ObjectProvider<HttpTransport> httpTransportProvider) {
         this.userCredentialRepository = userCredentialRepository;
         this.jobEventRepository = jobEventRepository;
         this.emailParser = emailParser;
-        try {
-            this.httpTransport = GoogleNetHttpTransport.newTrustedTransport();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+        this.reminderService = reminderService;
+        this.upcomingEventCache = upcomingEventCache;
+        this.eventStatsService = eventStatsService;
+        this.eventSearchIndex = eventSearchIndex;
+        // Selected by google.http.transport and created on first use, see GoogleTransportConfig
+        this.httpTransportProvider = httpTransportProvider;
     }
 
     public String getAuthorizationUrl() throws IOException {
@@ -85,16 +107,28 @@ public class GmailService {
         userCredentialRepository.save(userCredential);
     }
 
+    // Built on first use instead of at startup
     private GoogleAuthorizationCodeFlow getFlow() throws IOException {
-        GoogleClientSecrets.Details web = new GoogleClientSecrets.Details();
-        web.setClientId(clientId);
-        web.setClientSecret(clientSecret);
-        GoogleClientSecrets secrets = new GoogleClientSecrets().setWeb(web);
-
-        return new GoogleAuthorizationCodeFlow.Builder(
-                httpTransport, JSON_FACTORY, secrets, SCOPES)
-                .setDataStoreFactory(new MemoryDataStoreFactory()) // We manage persistence manually
-                .build();
+        if (flow == null) {
+            synchronized (this) {
+                if (flow == null) {
+                    GoogleClientSecrets.Details web = new GoogleClientSecrets.Details();
+                    web.setClientId(clientId);
+                    web.setClientSecret(clientSecret);
+                    GoogleClientSecrets secrets = new GoogleClientSecrets().setWeb(web);
+
+                    flow = new GoogleAuthorizationCodeFlow.Builder(
+                            getHttpTransport(), JSON_FACTORY, secrets, SCOPES)
+                            .setDataStoreFactory(new MemoryDataStoreFactory()) // We manage persistence manually
+                            .build();
+                }
+            }
+        }
+        return flow;
+    }
+
+    private HttpTransport getHttpTransport() {
+        return httpTransportProvider.getObject();
     }
 
     private Gmail getGmailClient() throws IOException {
@@ -105,7 +139,7 @@ public class GmailService {
         UserCredential stored = credentialOpt.get();
 
         GoogleCredential credential = new GoogleCredential.Builder()
-                .setTransport(httpTransport)
+                .setTransport(getHttpTransport())
                 .setJsonFactory(JSON_FACTORY)
                 .setClientSecrets(clientId, clientSecret)
                 .build();
@@ -123,32 +157,40 @@ public class GmailService {
             }
         }
 
-        return new Gmail.Builder(httpTransport, JSON_FACTORY, credential)
+        return new Gmail.Builder(getHttpTransport(), JSON_FACTORY, request -> {
+            credential.initialize(request);
+            request.setConnectTimeout(connectTimeoutMillis);
+            request.setReadTimeout(readTimeoutMillis);
+        })
                 .setApplicationName(APPLICATION_NAME)
                 .build();
     }
 
+    // Returns the number of new events saved, used to adapt the poll interval,
+    // or SYNC_FAILED when Gmail could not be read (auth or network failure)
     @Transactional
-    public void fetchAndSaveNewEvents() {
+    public int fetchAndSaveNewEvents() {
+        int saved = 0;
         try {
             // 1. Clean up old events first
             LocalDateTime tenDaysAgo = LocalDateTime.now().minusDays(10);
-            jobEventRepository.deleteByCreatedAtBefore(tenDaysAgo);
+            onEventsDeleted(jobEventRepository.deleteByCreatedAtBefore(tenDaysAgo));
 
             // 2. Remove legacy events (missing messageId) to prevent duplicates during
             // transition
-            jobEventRepository.deleteByMessageIdIsNull();
+            onEventsDeleted(jobEventRepository.deleteByMessageIdIsNull());
 
             Gmail service = getGmailClient();
 
             // Search for keywords, newer than 10 days
             String query = "subject:interview OR subject:exam OR subject:test OR subject:registration OR subject:screening newer_than:10d";
-            ListMessagesResponse response = service.users().messages().list("me").setQ(query).execute();
+            ListMessagesResponse response = service.users().messages().list("me").setQ(query)
+                    .setFields(LIST_FIELDS).execute();
 
             List<Message> messages = response.getMessages();
             if (messages == null || messages.isEmpty()) {
                 System.out.println("No messages found.");
-                return;
+                return 0;
             }
 
             for (Message msg : messages) {
@@ -158,7 +200,8 @@ public class GmailService {
                     continue;
                 }
 
-                Message fullMsg = service.users().messages().get("me", msg.getId()).execute();
+                Message fullMsg = service.users().messages().get("me", msg.getId())
+                        .setFields(GET_FIELDS).execute();
 
                 String subject = "";
                 String senderEmail = "";
@@ -175,9 +218,9 @@ public class GmailService {
                     }
                 }
 
-                String body = getBody(fullMsg);
+                String bodyText = emailParser.toPlainText(getBody(fullMsg));
                 System.out.println("Processing email: " + subject);
-                Map<String, String> data = emailParser.parseEmail(subject, body);
+                Map<String, String> data = emailParser.parsePlainText(subject, bodyText);
                 System.out.println("Parsed data: " + data);
 
                 // Always save if it matched the subject query
@@ -206,11 +249,35 @@ public class GmailService {
                 event.setReminded(false);
 
                 jobEventRepository.save(event);
+                afterCommit(() -> {
+                    reminderService.schedule(event);
+                    upcomingEventCache.put("me", event);
+                    eventStatsService.invalidate("me");
+                    eventSearchIndex.index(event, bodyText);
+                });
+                saved++;
             }
 
         } catch (Exception e) {
             e.printStackTrace();
+            return SYNC_FAILED; // Events saved before the failure are still committed
+        } finally {
+            // Registered last, so it runs after every index write queued above
+            afterCommit(eventSearchIndex::commit);
         }
+        return saved;
+    }
+
+    // Keep the in-memory views in step with rows removed from job_event
+    private void onEventsDeleted(List<JobEvent> deleted) {
+        afterCommit(() -> {
+            reminderService.unschedule(deleted);
+            upcomingEventCache.remove("me", deleted);
+            eventSearchIndex.remove(deleted);
+            if (!deleted.isEmpty()) {
+                eventStatsService.invalidate("me");
+            }
+        });
     }
 
     private String getBody(Message message) {
@@ -301,8 +368,27 @@ public class GmailService {
         return userInfo;
     }
 
+    // Runs once the sync transaction has committed, so the in-memory views only
+    // ever hold rows that other threads can already read from the database
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
     public void clearUserData() {
         userCredentialRepository.deleteAll();
         jobEventRepository.deleteAll();
+        reminderService.clear();
+        upcomingEventCache.evict("me");
+        eventStatsService.invalidate("me");
+        eventSearchIndex.clear();
     }
 }
@@ -0,0 +1,121 @@
+package com.personal.assistant.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Tracks how fast matching mail arrives for each account (EWMA, events per hour)
+// and picks the next poll interval from it, between the configured min and max.
+@Service
+public class PollRateTracker {
+
+    private static final double MILLIS_PER_HOUR = 3600 * 1000.0;
+
+    private final Map<String, AccountRate> accounts = new ConcurrentHashMap<>();
+
+    @Value("${poller.min-interval-ms:120000}")
+    private long minIntervalMillis;
+
+    @Value("${poller.max-interval-ms:14400000}")
+    private long maxIntervalMillis;
+
+    // Time constant of the EWMA, older observations fade out over roughly this long
+    @Value("${poller.ewma-window-ms:21600000}")
+    private long ewmaWindowMillis;
+
+    // How much the interval may grow after a poll that found nothing
+    @Value("${poller.backoff-factor:2.0}")
+    private double backoffFactor;
+
+    // Random spread applied to each interval, e.g. 0.1 = +/-10%
+    @Value("${poller.jitter:0.1}")
+    private double jitter;
+
+    public boolean isDue(String accountId, long nowMillis) {
+        AccountRate rate = accounts.get(accountId);
+        return rate == null || rate.nextPollAt <= nowMillis;
+    }
+
+    // Record the outcome of a sync and schedule the next poll for the account
+    public void recordPoll(String accountId, int newEvents, long nowMillis) {
+        AccountRate rate = accounts.computeIfAbsent(accountId, id -> new AccountRate(minIntervalMillis));
+        synchronized (rate) {
+            // The first sync only sees the backlog, so it says nothing about the arrival rate
+            if (rate.lastPollAt > 0) {
+                long elapsed = Math.max(1, nowMillis - rate.lastPollAt);
+                double observed = newEvents / (elapsed / MILLIS_PER_HOUR);
+                double alpha = 1 - Math.exp(-(double) elapsed / ewmaWindowMillis);
+                rate.eventsPerHour = alpha * observed + (1 - alpha) * rate.eventsPerHour;
+            }
+
+            // Aim for about one new event per poll
+            long target = rate.eventsPerHour > 0
+                    ? (long) (MILLIS_PER_HOUR / rate.eventsPerHour)
+                    : maxIntervalMillis;
+            long interval;
+            if (newEvents > 0) {
+                interval = Math.min(target, rate.intervalMillis); // Activity never lengthens the interval
+            } else {
+                interval = Math.min(target, (long) (rate.intervalMillis * backoffFactor));
+            }
+            interval = Math.max(minIntervalMillis, Math.min(maxIntervalMillis, interval));
+
+            rate.intervalMillis = interval;
+            rate.lastPollAt = nowMillis;
+            rate.nextPollAt = nowMillis + applyJitter(interval);
+        }
+    }
+
+    // A failed poll (auth or network error) says nothing about the arrival rate, so
+    // neither the EWMA nor the backoff moves; the account is retried after the minimum interval
+    public void recordFailure(String accountId, long nowMillis) {
+        AccountRate rate = accounts.computeIfAbsent(accountId, id -> new AccountRate(minIntervalMillis));
+        synchronized (rate) {
+            rate.nextPollAt = nowMillis + applyJitter(minIntervalMillis);
+        }
+    }
+
+    public void forget(String accountId) {
+        accounts.remove(accountId);
+    }
+
+    // Per-account snapshot for observability
+    public Map<String, Map<String, Object>> getStatus() {
+        Map<String, Map<String, Object>> status = new LinkedHashMap<>();
+        accounts.forEach((accountId, rate) -> {
+            synchronized (rate) {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("intervalSeconds", rate.intervalMillis / 1000);
+                entry.put("eventsPerHour", rate.eventsPerHour);
+                entry.put("lastPollAt", Instant.ofEpochMilli(rate.lastPollAt).toString());
+                entry.put("nextPollAt", Instant.ofEpochMilli(rate.nextPollAt).toString());
+                status.put(accountId, entry);
+            }
+        });
+        return status;
+    }
+
+    private long applyJitter(long interval) {
+        if (jitter <= 0) {
+            return interval;
+        }
+        double factor = 1 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+        return (long) (interval * factor);
+    }
+
+    private static class AccountRate {
+        private double eventsPerHour;
+        private long intervalMillis;
+        private long lastPollAt;
+        private long nextPollAt;
+
+        private AccountRate(long intervalMillis) {
+            this.intervalMillis = intervalMillis;
+        }
+    }
+}
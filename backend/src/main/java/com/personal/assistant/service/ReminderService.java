@@ -0,0 +1,248 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Service
+public class ReminderService {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("EEE, d MMM yyyy HH:mm",
+            Locale.ENGLISH);
+
+    private final JobEventRepository jobEventRepository;
+    private final JavaMailSender mailSender;
+    private final UpcomingEventCache upcomingEventCache;
+    private final ReminderWheel wheel;
+    private final Map<Long, Integer> attempts = new ConcurrentHashMap<>(); // Failed sends per event id
+
+    @Value("${reminder.enabled:false}")
+    private boolean enabled;
+
+    @Value("${reminder.to:}")
+    private String recipient;
+
+    @Value("${reminder.from:}")
+    private String sender;
+
+    @Value("${reminder.lead-minutes:60}")
+    private long leadMinutes;
+
+    @Value("${reminder.batch-size:50}")
+    private int batchSize;
+
+    @Value("${reminder.retry-minutes:5}")
+    private long retryMinutes;
+
+    @Value("${reminder.max-attempts:5}")
+    private int maxAttempts;
+
+    public ReminderService(JobEventRepository jobEventRepository, JavaMailSender mailSender,
+            UpcomingEventCache upcomingEventCache, @Value("${reminder.tick-ms:60000}") long tickMillis) {
+        this.jobEventRepository = jobEventRepository;
+        this.mailSender = mailSender;
+        this.upcomingEventCache = upcomingEventCache;
+        this.wheel = new ReminderWheel(tickMillis, System.currentTimeMillis());
+    }
+
+    // Rebuild the wheel after a restart with one range query instead of a scan per tick.
+    // The wheel is not cleared first: a sync may already have scheduled events the
+    // query cannot see yet, and scheduling an id twice just moves it.
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<JobEvent> pending = jobEventRepository.findPendingReminders(LocalDateTime.now());
+        for (JobEvent event : pending) {
+            schedule(event);
+        }
+        System.out.println("Reminder wheel rebuilt with " + wheel.size() + " pending reminders");
+    }
+
+    public void schedule(JobEvent event) {
+        if (!enabled || event.getId() == null || event.isReminded()) {
+            return;
+        }
+        if (!isUpcoming(event)) {
+            return; // Already happened, nothing to remind about
+        }
+        wheel.schedule(event.getId(), toMillis(event.getEventDate().minusMinutes(leadMinutes)));
+    }
+
+    public void unschedule(List<JobEvent> events) {
+        for (JobEvent event : events) {
+            if (event.getId() != null) {
+                wheel.remove(event.getId());
+                attempts.remove(event.getId());
+            }
+        }
+    }
+
+    public void clear() {
+        wheel.clear();
+        attempts.clear();
+    }
+
+    // Called from the scheduler on every tick
+    public void dispatchDue() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> dueIds = wheel.advance(System.currentTimeMillis());
+        if (dueIds.isEmpty()) {
+            return;
+        }
+        if (recipient == null || recipient.isBlank()) {
+            System.err.println("Reminder recipient not configured, dropping " + dueIds.size() + " reminders");
+            return;
+        }
+
+        // advance() already took the ids off the wheel, so anything not handled
+        // when a database call throws goes back on it instead of being lost
+        Set<Long> unhandled = new LinkedHashSet<>(dueIds);
+        try {
+            List<JobEvent> due = new ArrayList<>();
+            for (JobEvent event : jobEventRepository.findAllById(dueIds)) {
+                if (!event.isReminded() && isUpcoming(event)) {
+                    due.add(event);
+                }
+            }
+            unhandled.retainAll(ids(due)); // The rest were deleted, reminded or have started
+
+            for (int from = 0; from < due.size(); from += batchSize) {
+                List<JobEvent> batch = due.subList(from, Math.min(from + batchSize, due.size()));
+                sendBatch(batch);
+                unhandled.removeAll(ids(batch));
+            }
+        } finally {
+            if (!unhandled.isEmpty()) {
+                long retryAt = System.currentTimeMillis() + retryMinutes * 60 * 1000;
+                for (Long id : unhandled) {
+                    wheel.schedule(id, retryAt);
+                }
+                System.err.println("Rescheduled " + unhandled.size() + " reminders after a failure");
+            }
+        }
+    }
+
+    // One send() call reuses a single SMTP connection for the whole batch
+    private void sendBatch(List<JobEvent> batch) {
+        SimpleMailMessage[] messages = new SimpleMailMessage[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            messages[i] = buildMessage(batch.get(i));
+        }
+
+        Set<Integer> failed = new HashSet<>();
+        try {
+            mailSender.send(messages);
+        } catch (MailSendException e) {
+            for (int i = 0; i < messages.length; i++) {
+                if (e.getFailedMessages().containsKey(messages[i])) {
+                    failed.add(i);
+                }
+            }
+            if (failed.isEmpty()) {
+                markAllFailed(failed, messages.length); // Connection level failure
+            }
+            System.err.println("Failed to send " + failed.size() + " reminders: " + e.getMessage());
+        } catch (MailException e) {
+            markAllFailed(failed, messages.length);
+            System.err.println("Failed to send reminders: " + e.getMessage());
+        }
+
+        List<JobEvent> sent = new ArrayList<>();
+        long retryAt = System.currentTimeMillis() + retryMinutes * 60 * 1000;
+        for (int i = 0; i < batch.size(); i++) {
+            JobEvent event = batch.get(i);
+            if (failed.contains(i)) {
+                retry(event, retryAt);
+            } else {
+                sent.add(event);
+            }
+        }
+        if (sent.isEmpty()) {
+            return;
+        }
+        // If this throws the batch is rescheduled and may be sent twice, as after a restart
+        jobEventRepository.markReminded(ids(sent));
+        for (JobEvent event : sent) {
+            attempts.remove(event.getId());
+            event.setReminded(true);
+            upcomingEventCache.put("me", event); // Replaces the cached copy, now that the update is committed
+        }
+        System.out.println("Sent " + sent.size() + " reminders");
+    }
+
+    // Failed sends go back on the wheel while the event is still ahead, at most maxAttempts times
+    private void retry(JobEvent event, long retryAt) {
+        int attempt = attempts.merge(event.getId(), 1, Integer::sum);
+        if (attempt >= maxAttempts || !isUpcoming(event)) {
+            attempts.remove(event.getId());
+            System.err.println("Giving up on reminder for event " + event.getId() + " after " + attempt
+                    + " attempts");
+            return;
+        }
+        wheel.schedule(event.getId(), retryAt);
+    }
+
+    private static boolean isUpcoming(JobEvent event) {
+        return event.getEventDate() != null && event.getEventDate().isAfter(LocalDateTime.now());
+    }
+
+    private static List<Long> ids(List<JobEvent> events) {
+        List<Long> ids = new ArrayList<>();
+        for (JobEvent event : events) {
+            ids.add(event.getId());
+        }
+        return ids;
+    }
+
+    private SimpleMailMessage buildMessage(JobEvent event) {
+        SimpleMailMessage message = new SimpleMailMessage();
+        if (sender != null && !sender.isBlank()) {
+            message.setFrom(sender);
+        }
+        message.setTo(recipient);
+        message.setSubject("Reminder: " + event.getEventType() + " - " + event.getSubject());
+
+        StringBuilder text = new StringBuilder();
+        text.append(event.getEventType()).append(" from ").append(event.getCompanyName()).append('\n');
+        text.append("When: ").append(event.getEventDate().format(DATE_FORMAT)).append('\n');
+        text.append("Subject: ").append(event.getSubject()).append('\n');
+        if (event.getActionLink() != null) {
+            text.append("Link: ").append(event.getActionLink()).append('\n');
+        }
+        message.setText(text.toString());
+        return message;
+    }
+
+    private static void markAllFailed(Set<Integer> failed, int count) {
+        for (int i = 0; i < count; i++) {
+            failed.add(i);
+        }
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
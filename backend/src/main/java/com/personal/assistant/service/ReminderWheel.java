@@ -0,0 +1,156 @@
+package com.personal.assistant.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Hierarchical timing wheel holding reminder deadlines keyed by JobEvent id.
+// Level 0 has one slot per tick, every higher level has slots 64x wider.
+// Entries cascade down a level when the wheel below wraps, so a tick only
+// touches the slots that are actually due instead of scanning every event.
+public class ReminderWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS; // 64 slots per level
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4; // 64^4 ticks, ~31 years at 1 minute per tick
+
+    private final long tickMillis;
+    private final List<List<Set<Long>>> wheels = new ArrayList<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Set<Long> overflow = new LinkedHashSet<>(); // Beyond the top level
+    private final List<Long> expired = new ArrayList<>(); // Due but not yet handed out
+    private long currentTick;
+
+    public ReminderWheel(long tickMillis, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.currentTick = nowMillis / tickMillis;
+        for (int level = 0; level < LEVELS; level++) {
+            List<Set<Long>> slots = new ArrayList<>(SLOTS);
+            for (int i = 0; i < SLOTS; i++) {
+                slots.add(new LinkedHashSet<>());
+            }
+            wheels.add(slots);
+        }
+    }
+
+    // Insert or move the reminder for an event
+    public synchronized void schedule(long id, long deadlineMillis) {
+        remove(id);
+        place(new Entry(id, deadlineMillis / tickMillis));
+    }
+
+    public synchronized boolean remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        if (entry.level == -1) {
+            expired.remove(Long.valueOf(entry.id));
+        } else if (entry.level == LEVELS) {
+            overflow.remove(entry.id);
+        } else {
+            wheels.get(entry.level).get(entry.slot).remove(entry.id);
+        }
+        return true;
+    }
+
+    // Move the wheel forward to the given time and return every id that became due
+    public synchronized List<Long> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            Set<Long> slot = wheels.get(0).get((int) (currentTick & SLOT_MASK));
+            for (Long id : slot) {
+                entries.get(id).level = -1;
+                expired.add(id);
+            }
+            slot.clear();
+        }
+        List<Long> due = new ArrayList<>(expired);
+        for (Long id : due) {
+            entries.remove(id);
+        }
+        expired.clear();
+        return due;
+    }
+
+    public synchronized void clear() {
+        for (List<Set<Long>> slots : wheels) {
+            for (Set<Long> slot : slots) {
+                slot.clear();
+            }
+        }
+        entries.clear();
+        overflow.clear();
+        expired.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    // Re-distribute the higher level slots whose range has just started.
+    // Highest level first, so entries can fall through more than one level in a tick.
+    private void cascade() {
+        int wrapped = 0;
+        while (wrapped < LEVELS - 1 && (currentTick & ((1L << (SLOT_BITS * (wrapped + 1))) - 1)) == 0) {
+            wrapped++;
+        }
+        if (wrapped == LEVELS - 1 && !overflow.isEmpty()) {
+            List<Long> pending = new ArrayList<>(overflow);
+            overflow.clear();
+            for (Long id : pending) {
+                place(entries.get(id));
+            }
+        }
+        for (int level = wrapped; level >= 1; level--) {
+            Set<Long> slot = wheels.get(level).get(slotIndex(currentTick, level));
+            List<Long> pending = new ArrayList<>(slot);
+            slot.clear();
+            for (Long id : pending) {
+                place(entries.get(id));
+            }
+        }
+    }
+
+    private void place(Entry entry) {
+        entries.put(entry.id, entry);
+        long delta = entry.deadlineTick - currentTick;
+        if (delta <= 0) {
+            entry.level = -1;
+            expired.add(entry.id);
+            return;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            if (delta < (1L << (SLOT_BITS * (level + 1)))) {
+                entry.level = level;
+                entry.slot = slotIndex(entry.deadlineTick, level);
+                wheels.get(level).get(entry.slot).add(entry.id);
+                return;
+            }
+        }
+        entry.level = LEVELS;
+        overflow.add(entry.id);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static class Entry {
+        private final long id;
+        private final long deadlineTick;
+        private int level; // -1 = expired, LEVELS = overflow
+        private int slot;
+
+        private Entry(long id, long deadlineTick) {
+            this.id = id;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Read-side cache of each user's upcoming events, ordered by (eventDate, id).
+// Sync writes go through to it once committed, so dashboard reads never touch the
+// database. Only the most recently used users are kept; the rest reload on their next read.
+@Service
+public class UpcomingEventCache {
+
+    private final JobEventRepository jobEventRepository;
+    private final Map<String, UserEvents> users;
+
+    public UpcomingEventCache(JobEventRepository jobEventRepository,
+            @Value("${cache.upcoming.max-users:100}") int maxUsers) {
+        this.jobEventRepository = jobEventRepository;
+        // Access ordered, so the eldest entry is the least recently read user
+        this.users = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UserEvents> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        loaded("me"); // Single user for now, see GmailService
+        System.out.println("Upcoming event cache warmed up");
+    }
+
+    public List<JobEvent> getUpcoming(String userId) {
+        ConcurrentSkipListMap<EventKey, JobEvent> events = loaded(userId).events;
+
+        // Drop events that have started since they were cached
+        events.headMap(new EventKey(LocalDateTime.now(), Long.MAX_VALUE), true).clear();
+        return new ArrayList<>(events.values());
+    }
+
+    // Write-through after a commit; users that are not cached pick it up on their next load
+    public void put(String userId, JobEvent event) {
+        EventKey key = EventKey.of(event);
+        if (key == null || !event.getEventDate().isAfter(LocalDateTime.now())) {
+            return;
+        }
+        UserEvents user = cached(userId);
+        if (user != null) {
+            user.events.put(key, event);
+        }
+    }
+
+    public void remove(String userId, List<JobEvent> removed) {
+        UserEvents user = cached(userId);
+        if (user == null) {
+            return;
+        }
+        for (JobEvent event : removed) {
+            EventKey key = EventKey.of(event);
+            if (key != null) {
+                if (!user.loaded) {
+                    user.removedWhileLoading.add(key); // Before the map, see load()
+                }
+                user.events.remove(key);
+            }
+        }
+    }
+
+    public void evict(String userId) {
+        synchronized (users) {
+            users.remove(userId);
+        }
+    }
+
+    private UserEvents cached(String userId) {
+        synchronized (users) {
+            return users.get(userId);
+        }
+    }
+
+    // The entry is registered before the query runs, so writes that commit while
+    // it loads land in the map instead of being dropped
+    private UserEvents loaded(String userId) {
+        UserEvents user;
+        synchronized (users) {
+            user = users.computeIfAbsent(userId, id -> new UserEvents());
+        }
+        if (!user.loaded) {
+            synchronized (user) {
+                if (!user.loaded) {
+                    load(user);
+                }
+            }
+        }
+        return user;
+    }
+
+    private void load(UserEvents user) {
+        for (JobEvent event : jobEventRepository.findByEventDateAfterOrderByEventDateAsc(LocalDateTime.now())) {
+            // A write-through copy is at least as new as the row read here
+            user.events.putIfAbsent(EventKey.of(event), event);
+        }
+        // The query may have read rows deleted while it ran
+        for (EventKey key : user.removedWhileLoading) {
+            user.events.remove(key);
+        }
+        user.loaded = true;
+        user.removedWhileLoading.clear();
+    }
+
+    private static class UserEvents {
+        private final ConcurrentSkipListMap<EventKey, JobEvent> events = new ConcurrentSkipListMap<>();
+        private final Set<EventKey> removedWhileLoading = ConcurrentHashMap.newKeySet();
+        private volatile boolean loaded;
+    }
+
+    private record EventKey(LocalDateTime eventDate, long id) implements Comparable<EventKey> {
+
+        private static EventKey of(JobEvent event) {
+            if (event.getEventDate() == null || event.getId() == null) {
+                return null;
+            }
+            return new EventKey(event.getEventDate(), event.getId());
+        }
+
+        @Override
+        public int compareTo(EventKey other) {
+            int byDate = eventDate.compareTo(other.eventDate);
+            return byDate != 0 ? byDate : Long.compare(id, other.id);
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.personal.assistant.transport;
+
+import com.google.api.client.http.HttpTransport;
+import com.google.api.client.http.LowLevelHttpRequest;
+import com.google.api.client.http.LowLevelHttpResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// Google HttpTransport backed by the JDK HttpClient.
+// Connections are kept alive and reused, HTTP/2 is negotiated via ALPN so
+// concurrent calls multiplex over one connection, and the number of requests
+// in flight is bounded. That bound also caps open connections: the JDK client
+// has no connection limit of its own, but an HTTP/1.1 connection serves one
+// request at a time and idle ones are reused before a new one is opened, so
+// there are never more than maxConcurrentRequests per host. Response bodies are passed through undecoded, so the
+// Google client still handles gzip (it sends Accept-Encoding: gzip itself).
+// Bodies are read in full before execute() returns: the read timeout then covers
+// the whole response, not just the headers, and a request holds its permit until
+// the body is in. Gmail API responses are small JSON documents, so this is cheap.
+public class JdkHttpTransport extends HttpTransport {
+
+    // Headers the JDK client sets itself and refuses from callers
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "upgrade");
+
+    private final HttpClient client;
+    private final Semaphore permits;
+
+    public JdkHttpTransport(int maxConcurrentRequests, Duration connectTimeout) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(connectTimeout)
+                .followRedirects(HttpClient.Redirect.NEVER) // Google client handles redirects
+                .build();
+        this.permits = new Semaphore(maxConcurrentRequests);
+    }
+
+    @Override
+    public boolean supportsMethod(String method) {
+        return true;
+    }
+
+    @Override
+    protected LowLevelHttpRequest buildRequest(String method, String url) {
+        return new JdkLowLevelRequest(method, url);
+    }
+
+    private class JdkLowLevelRequest extends LowLevelHttpRequest {
+
+        private final String method;
+        private final String url;
+        private final List<String[]> headers = new ArrayList<>();
+        private Duration readTimeout;
+
+        private JdkLowLevelRequest(String method, String url) {
+            this.method = method;
+            this.url = url;
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            headers.add(new String[] { name, value });
+        }
+
+        @Override
+        public void setTimeout(int connectTimeout, int readTimeout) {
+            // Connect timeout is fixed per client, read timeout applies per request
+            this.readTimeout = readTimeout > 0 ? Duration.ofMillis(readTimeout) : null;
+        }
+
+        @Override
+        public LowLevelHttpResponse execute() throws IOException {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url));
+            if (readTimeout != null) {
+                builder.timeout(readTimeout);
+            }
+            for (String[] header : headers) {
+                if (!RESTRICTED_HEADERS.contains(header[0].toLowerCase())) {
+                    builder.header(header[0], header[1]);
+                }
+            }
+
+            HttpRequest.BodyPublisher body = HttpRequest.BodyPublishers.noBody();
+            if (getStreamingContent() != null) {
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                getStreamingContent().writeTo(out);
+                body = HttpRequest.BodyPublishers.ofByteArray(out.toByteArray());
+                if (getContentType() != null) {
+                    builder.header("Content-Type", getContentType());
+                }
+                if (getContentEncoding() != null) {
+                    builder.header("Content-Encoding", getContentEncoding());
+                }
+            }
+            builder.method(method, body);
+
+            try {
+                permits.acquire();
+                try {
+                    return new JdkLowLevelResponse(send(builder.build()));
+                } finally {
+                    permits.release();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while calling " + url);
+            }
+        }
+
+        // HttpRequest.timeout only bounds the wait for the headers, so the deadline
+        // for the body is enforced on the future, which aborts the exchange when cancelled
+        private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+            if (readTimeout == null) {
+                return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+            }
+            CompletableFuture<HttpResponse<byte[]>> response = client.sendAsync(request,
+                    HttpResponse.BodyHandlers.ofByteArray());
+            try {
+                return response.get(readTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                response.cancel(true);
+                throw new HttpTimeoutException("Response from " + url + " not complete after " + readTimeout.toMillis()
+                        + " ms");
+            } catch (InterruptedException e) {
+                response.cancel(true);
+                throw e;
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException cause) {
+                    throw cause;
+                }
+                throw new IOException("Failed to call " + url, e.getCause());
+            }
+        }
+    }
+
+    private static class JdkLowLevelResponse extends LowLevelHttpResponse {
+
+        private final HttpResponse<byte[]> response;
+        private final List<String> headerNames = new ArrayList<>();
+        private final List<String> headerValues = new ArrayList<>();
+
+        private JdkLowLevelResponse(HttpResponse<byte[]> response) {
+            this.response = response;
+            for (Map.Entry<String, List<String>> header : response.headers().map().entrySet()) {
+                for (String value : header.getValue()) {
+                    headerNames.add(header.getKey());
+                    headerValues.add(value);
+                }
+            }
+        }
+
+        @Override
+        public InputStream getContent() {
+            return new ByteArrayInputStream(response.body());
+        }
+
+        @Override
+        public String getContentEncoding() {
+            return response.headers().firstValue("Content-Encoding").orElse(null);
+        }
+
+        @Override
+        public long getContentLength() {
+            return response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        }
+
+        @Override
+        public String getContentType() {
+            return response.headers().firstValue("Content-Type").orElse(null);
+        }
+
+        @Override
+        public String getStatusLine() {
+            String version = response.version() == HttpClient.Version.HTTP_2 ? "HTTP/2" : "HTTP/1.1";
+            return version + " " + response.statusCode();
+        }
+
+        @Override
+        public int getStatusCode() {
+            return response.statusCode();
+        }
+
+        @Override
+        public String getReasonPhrase() {
+            return null; // Not exposed by the JDK client (and absent in HTTP/2)
+        }
+
+        @Override
+        public int getHeaderCount() {
+            return headerNames.size();
+        }
+
+        @Override
+        public String getHeaderName(int index) {
+            return headerNames.get(index);
+        }
+
+        @Override
+        public String getHeaderValue(int index) {
+            return headerValues.get(index);
+        }
+
+        @Override
+        public void disconnect() {
+            // Nothing to release, the body was read in full and the connection is back in the pool
+        }
+    }
+}
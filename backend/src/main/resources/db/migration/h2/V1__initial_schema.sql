@@ -0,0 +1,25 @@
+-- Schema as previously created by spring.jpa.hibernate.ddl-auto=update.
+-- Existing databases are baselined at version 1 and skip this script.
+create sequence job_event_seq start with 1 increment by 50;
+
+create table job_event (
+    id bigint not null,
+    company_name varchar(255),
+    subject varchar(255),
+    event_type varchar(255),
+    event_date timestamp(6),
+    action_link varchar(255),
+    is_reminded boolean not null,
+    created_at timestamp(6),
+    message_id varchar(255) unique,
+    sender_email varchar(255),
+    primary key (id)
+);
+
+create table user_credential (
+    user_id varchar(255) not null,
+    access_token clob,
+    refresh_token clob,
+    expiration_time_milliseconds bigint,
+    primary key (user_id)
+);
@@ -0,0 +1,4 @@
+-- Reminder wheel rebuild, upcoming events and dashboard statistics
+create index if not exists idx_job_event_reminder on job_event (is_reminded, event_date);
+create index if not exists idx_job_event_date on job_event (event_date);
+create index if not exists idx_job_event_type on job_event (event_type);
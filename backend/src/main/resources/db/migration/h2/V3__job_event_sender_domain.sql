@@ -0,0 +1,9 @@
+-- Sender domain for the dashboard statistics, kept by the database so the
+-- GROUP BY can be answered from an index instead of evaluating it per row
+alter table job_event add column if not exists sender_domain varchar(255)
+    generated always as (
+        case when locate('@', sender_email) > 0
+            then lower(substring(sender_email, locate('@', sender_email) + 1))
+        end
+    );
+create index if not exists idx_job_event_sender_domain on job_event (sender_domain);
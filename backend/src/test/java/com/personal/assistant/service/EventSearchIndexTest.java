@@ -0,0 +1,154 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventSearchIndexTest {
+
+    @TempDir
+    Path indexDir;
+
+    private final JobEventRepository jobEventRepository = mock(JobEventRepository.class);
+    private final List<JobEvent> rows = new ArrayList<>();
+    private EventSearchIndex index;
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void findsEventsByCompanyPrefixAndTypo() throws IOException {
+        index = openIndex();
+        index.index(event(1, "Acme Robotics", "Interview invitation"), "Join us on Zoom");
+        index.index(event(2, "Globex", "Online assessment"), null);
+        index.commit();
+
+        assertEquals(List.of(1L), index.search("acme", 10));
+        assertEquals(List.of(1L), index.search("robo", 10));
+        assertEquals(List.of(2L), index.search("globx", 10));
+        assertEquals(List.of(1L), index.search("zoom", 10));
+    }
+
+    @Test
+    void leavesMatchingIndexUntouched() throws IOException {
+        index = openIndex();
+        index.index(event(1, "Acme", "Interview"), null);
+        index.commit();
+        rows.add(event(1, "Acme", "Interview"));
+
+        index.open();
+
+        verify(jobEventRepository, never()).findAllById(any());
+        assertEquals(List.of(1L), index.search("acme", 10));
+    }
+
+    @Test
+    void dropsOrphansAndIndexesMissingRowsOnOpen() throws IOException {
+        index = openIndex();
+        index.index(event(1, "Acme", "Interview"), "Body only Gmail knows");
+        index.index(event(2, "Globex", "Assessment"), null); // Deleted outside sync below, same count
+        index.commit();
+
+        rows.add(event(1, "Acme", "Interview"));
+        rows.add(event(3, "Initech", "Registration")); // Saved while the index was not updated
+
+        index.open();
+
+        assertEquals(List.of(), index.search("globex", 10));
+        assertEquals(List.of(3L), index.search("initech", 10));
+        assertEquals(List.of(1L), index.search("gmail", 10)); // Existing documents keep their body
+    }
+
+    @Test
+    void rebuildsEmptyIndex() throws IOException {
+        index = openIndex();
+        rows.add(event(1, "Acme", "Interview"));
+        rows.add(event(2, "Globex", "Assessment"));
+
+        index.open();
+
+        assertEquals(List.of(2L), index.search("assessment", 10));
+    }
+
+    @Test
+    void rebuildsInIdOrderedChunks() throws IOException {
+        index = openIndex();
+        for (long id = 2500; id >= 1; id--) {
+            rows.add(event(id, "Company" + id, "Interview"));
+        }
+
+        index.open();
+
+        ArgumentCaptor<Collection<Long>> chunks = ArgumentCaptor.captor();
+        verify(jobEventRepository, times(3)).findAllById(chunks.capture());
+        List<Long> fetched = new ArrayList<>();
+        for (Collection<Long> chunk : chunks.getAllValues()) {
+            assertTrue(chunk.size() <= 1000, "chunk of " + chunk.size());
+            fetched.addAll(chunk);
+        }
+        assertEquals(LongStream.rangeClosed(1, 2500).boxed().toList(), fetched);
+        assertEquals(List.of(1234L), index.search("company1234", 10));
+    }
+
+    @Test
+    void failedRebuildDoesNotThrow() {
+        index = openIndex();
+        when(jobEventRepository.findAllIds()).thenThrow(new IllegalStateException("database down"));
+
+        assertDoesNotThrow(index::open);
+    }
+
+    @Test
+    void writesAreHiddenFromSearchUntilCommit() throws IOException {
+        index = openIndex();
+        index.index(event(1, "Acme", "Interview"), null);
+
+        assertEquals(List.of(), index.search("acme", 10));
+        index.commit();
+        assertEquals(List.of(1L), index.search("acme", 10));
+    }
+
+    private EventSearchIndex openIndex() {
+        when(jobEventRepository.findAllIds()).thenAnswer(invocation -> rows.stream().map(JobEvent::getId).toList());
+        when(jobEventRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return rows.stream().filter(row -> ids.contains(row.getId())).toList();
+        });
+        EventSearchIndex searchIndex = new EventSearchIndex(jobEventRepository);
+        ReflectionTestUtils.setField(searchIndex, "indexDir", indexDir.toString());
+        return searchIndex;
+    }
+
+    private static JobEvent event(long id, String company, String subject) {
+        JobEvent event = new JobEvent();
+        event.setId(id);
+        event.setCompanyName(company);
+        event.setSubject(subject);
+        event.setEventType("Interview");
+        event.setSenderEmail("jobs@" + company.toLowerCase().replace(' ', '-') + ".com");
+        return event;
+    }
+}
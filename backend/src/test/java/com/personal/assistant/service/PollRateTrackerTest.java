@@ -0,0 +1,147 @@
+package com.personal.assistant.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PollRateTrackerTest {
+
+    private static final long MIN = 120_000;
+    private static final long MAX = 14_400_000;
+    private static final String ACCOUNT = "me";
+
+    private final PollRateTracker tracker = new PollRateTracker();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tracker, "minIntervalMillis", MIN);
+        ReflectionTestUtils.setField(tracker, "maxIntervalMillis", MAX);
+        ReflectionTestUtils.setField(tracker, "ewmaWindowMillis", 21_600_000L);
+        ReflectionTestUtils.setField(tracker, "backoffFactor", 2.0);
+        ReflectionTestUtils.setField(tracker, "jitter", 0.0);
+    }
+
+    @Test
+    void unknownAccountIsDue() {
+        assertTrue(tracker.isDue(ACCOUNT, 0));
+    }
+
+    @Test
+    void firstSyncIsExcludedFromRate() {
+        tracker.recordPoll(ACCOUNT, 500, 1_000_000); // Backlog, not arrivals
+
+        assertEquals(0.0, eventsPerHour());
+        assertEquals(MIN, interval());
+    }
+
+    @Test
+    void emptyPollsBackOffUpToMax() {
+        long now = 1_000_000;
+        tracker.recordPoll(ACCOUNT, 0, now);
+        assertEquals(2 * MIN, interval());
+
+        long expected = 2 * MIN;
+        for (int i = 0; i < 10; i++) {
+            now += interval();
+            tracker.recordPoll(ACCOUNT, 0, now);
+            expected = Math.min(MAX, expected * 2);
+            assertEquals(expected, interval());
+        }
+        assertEquals(MAX, interval());
+    }
+
+    @Test
+    void highRateIsClampedToMin() {
+        tracker.recordPoll(ACCOUNT, 0, 1_000_000);
+        tracker.recordPoll(ACCOUNT, 100_000, 1_000_000 + interval());
+
+        assertTrue(eventsPerHour() > 3600.0 * 1000 / MIN, "rate should ask for less than the minimum");
+        assertEquals(MIN, interval());
+    }
+
+    @Test
+    void newEventsNeverLengthenInterval() {
+        long now = 1_000_000;
+        tracker.recordPoll(ACCOUNT, 0, now);
+        for (int i = 0; i < 3; i++) {
+            now += interval();
+            tracker.recordPoll(ACCOUNT, 0, now);
+        }
+        long before = interval();
+
+        // One event over a long interval is a low rate, its target is far above the current interval
+        now += before;
+        tracker.recordPoll(ACCOUNT, 1, now);
+
+        assertTrue(eventsPerHour() > 0);
+        assertTrue(3600_000 / eventsPerHour() > before);
+        assertEquals(before, interval());
+    }
+
+    @Test
+    void nextPollIsExactlyOneIntervalAwayWithoutJitter() {
+        tracker.recordPoll(ACCOUNT, 0, 1_000_000);
+
+        assertEquals(1_000_000 + interval(), nextPollAt());
+        assertFalse(tracker.isDue(ACCOUNT, nextPollAt() - 1));
+        assertTrue(tracker.isDue(ACCOUNT, nextPollAt()));
+    }
+
+    @Test
+    void jitterStaysWithinBounds() {
+        ReflectionTestUtils.setField(tracker, "jitter", 0.1);
+        long now = 1_000_000;
+        for (int i = 0; i < 200; i++) {
+            tracker.recordPoll(ACCOUNT, 1, now);
+            long delay = nextPollAt() - now;
+            assertTrue(delay >= interval() * 0.9 && delay <= interval() * 1.1, "delay " + delay + " out of bounds");
+            now += delay;
+        }
+    }
+
+    @Test
+    void failureKeepsRateAndIntervalAndRetriesAtMin() {
+        long now = 1_000_000;
+        tracker.recordPoll(ACCOUNT, 0, now);
+        now += interval();
+        tracker.recordPoll(ACCOUNT, 0, now);
+        long interval = interval();
+
+        tracker.recordFailure(ACCOUNT, now + 1000);
+
+        assertEquals(interval, interval());
+        assertEquals(0.0, eventsPerHour());
+        assertEquals(now + 1000 + MIN, nextPollAt());
+    }
+
+    @Test
+    void forgetMakesAccountDueAgain() {
+        tracker.recordPoll(ACCOUNT, 0, 1_000_000);
+        tracker.forget(ACCOUNT);
+
+        assertTrue(tracker.isDue(ACCOUNT, 1_000_000));
+    }
+
+    private Map<String, Object> status() {
+        return tracker.getStatus().get(ACCOUNT);
+    }
+
+    private long interval() {
+        return (Long) status().get("intervalSeconds") * 1000;
+    }
+
+    private double eventsPerHour() {
+        return (Double) status().get("eventsPerHour");
+    }
+
+    private long nextPollAt() {
+        return Instant.parse((String) status().get("nextPollAt")).toEpochMilli();
+    }
+}
@@ -0,0 +1,221 @@
+package com.personal.assistant.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final JobEventRepository jobEventRepository = mock(JobEventRepository.class);
+    private final UpcomingEventCache upcomingEventCache = mock(UpcomingEventCache.class);
+    private final List<JobEvent> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // Hands back the stored events for the requested ids, like the real query
+        when(jobEventRepository.findAllById(any())).thenAnswer(invocation -> {
+            Iterable<Long> ids = invocation.getArgument(0);
+            List<JobEvent> found = new ArrayList<>();
+            for (Long id : ids) {
+                events.stream().filter(event -> event.getId().equals(id)).forEach(found::add);
+            }
+            return found;
+        });
+    }
+
+    @Test
+    void sendsDueRemindersInBatches() throws Exception {
+        JavaMailSenderImpl mailSender = spy(greenMailSender());
+        ReminderService reminderService = reminderService(mailSender, 2);
+        scheduleDueEvents(reminderService, 5);
+
+        reminderService.dispatchDue();
+
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(5, received.length);
+        assertTrue(received[0].getSubject().startsWith("Reminder: Interview - "));
+        verify(mailSender, times(3)).send(any(SimpleMailMessage[].class));
+        verify(jobEventRepository).markReminded(List.of(1L, 2L));
+        verify(jobEventRepository).markReminded(List.of(3L, 4L));
+        verify(jobEventRepository).markReminded(List.of(5L));
+        assertTrue(events.stream().allMatch(JobEvent::isReminded));
+
+        reminderService.dispatchDue(); // Nothing left in the wheel
+        assertEquals(5, greenMail.getReceivedMessages().length);
+    }
+
+    @Test
+    void retriesBatchAfterConnectionFailure() {
+        JavaMailSenderImpl mailSender = greenMailSender();
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1); // Nothing listens here
+        ReminderService reminderService = reminderService(mailSender, 2);
+        scheduleDueEvents(reminderService, 3);
+
+        reminderService.dispatchDue();
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(jobEventRepository, never()).markReminded(anyCollection());
+        assertTrue(events.stream().noneMatch(JobEvent::isReminded));
+
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        reminderService.dispatchDue(); // Retry delay is zero, so they are due again
+
+        assertEquals(3, greenMail.getReceivedMessages().length);
+        verify(jobEventRepository).markReminded(List.of(1L, 2L));
+        verify(jobEventRepository).markReminded(List.of(3L));
+    }
+
+    @Test
+    void retriesOnlyTheMessagesThatFailed() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+            throw new MailSendException(Map.of(messages[1], new MessagingException("Mailbox full")));
+        }).doNothing().when(mailSender).send(any(SimpleMailMessage[].class));
+        ReminderService reminderService = reminderService(mailSender, 10);
+        scheduleDueEvents(reminderService, 3);
+
+        reminderService.dispatchDue();
+
+        verify(jobEventRepository).markReminded(List.of(1L, 3L));
+        assertFalse(events.get(1).isReminded());
+
+        reminderService.dispatchDue();
+
+        verify(jobEventRepository).markReminded(List.of(2L));
+        verify(mailSender, times(2)).send(any(SimpleMailMessage[].class));
+    }
+
+    @Test
+    void givesUpAfterMaxAttempts() {
+        JavaMailSender mailSender = mock(JavaMailSender.class);
+        doAnswer(invocation -> {
+            SimpleMailMessage[] messages = (SimpleMailMessage[]) invocation.getRawArguments()[0];
+            throw new MailSendException(Map.of(messages[0], new MessagingException("Recipient rejected")));
+        }).when(mailSender).send(any(SimpleMailMessage[].class));
+        ReminderService reminderService = reminderService(mailSender, 10);
+        scheduleDueEvents(reminderService, 1);
+
+        for (int i = 0; i < 5; i++) {
+            reminderService.dispatchDue();
+        }
+
+        verify(mailSender, times(3)).send(any(SimpleMailMessage[].class));
+        verify(jobEventRepository, never()).markReminded(anyCollection());
+    }
+
+    @Test
+    void doesNotRetryOnceTheEventHasStarted() {
+        JavaMailSenderImpl mailSender = greenMailSender();
+        mailSender.setPort(ServerSetupTest.SMTP.getPort() + 1); // Nothing listens here
+        ReminderService reminderService = reminderService(mailSender, 10);
+        scheduleDueEvents(reminderService, 1);
+
+        reminderService.dispatchDue();
+        events.get(0).setEventDate(LocalDateTime.now().minusMinutes(1));
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        reminderService.dispatchDue();
+
+        assertEquals(0, greenMail.getReceivedMessages().length);
+        verify(jobEventRepository, never()).markReminded(anyCollection());
+    }
+
+    @Test
+    void reschedulesDueIdsWhenLoadingThemFails() {
+        ReminderService reminderService = reminderService(greenMailSender(), 10);
+        scheduleDueEvents(reminderService, 2);
+        doThrow(new IllegalStateException("Database down")).doAnswer(invocation -> events)
+                .when(jobEventRepository).findAllById(any());
+
+        assertThrows(IllegalStateException.class, reminderService::dispatchDue);
+        reminderService.dispatchDue();
+
+        assertEquals(2, greenMail.getReceivedMessages().length);
+        verify(jobEventRepository).markReminded(List.of(1L, 2L));
+    }
+
+    @Test
+    void reschedulesUnfinishedBatchesWhenMarkingFails() {
+        ReminderService reminderService = reminderService(greenMailSender(), 1);
+        scheduleDueEvents(reminderService, 3);
+        when(jobEventRepository.markReminded(List.of(2L))).thenThrow(new IllegalStateException("Database down"))
+                .thenReturn(1);
+
+        assertThrows(IllegalStateException.class, reminderService::dispatchDue);
+        reminderService.dispatchDue();
+
+        // Event 1 went out once; 2 was sent but not marked, so it goes out again with 3
+        assertEquals(4, greenMail.getReceivedMessages().length);
+        verify(jobEventRepository, times(1)).markReminded(List.of(1L));
+        verify(jobEventRepository, times(2)).markReminded(List.of(2L));
+        verify(jobEventRepository, times(1)).markReminded(List.of(3L));
+    }
+
+    private ReminderService reminderService(JavaMailSender mailSender, int batchSize) {
+        ReminderService reminderService = new ReminderService(jobEventRepository, mailSender, upcomingEventCache,
+                60_000);
+        ReflectionTestUtils.setField(reminderService, "enabled", true);
+        ReflectionTestUtils.setField(reminderService, "recipient", "me@localhost");
+        ReflectionTestUtils.setField(reminderService, "sender", "assistant@localhost");
+        ReflectionTestUtils.setField(reminderService, "leadMinutes", 60L);
+        ReflectionTestUtils.setField(reminderService, "batchSize", batchSize);
+        ReflectionTestUtils.setField(reminderService, "retryMinutes", 0L);
+        ReflectionTestUtils.setField(reminderService, "maxAttempts", 3);
+        return reminderService;
+    }
+
+    // Events starting within the lead time, so their reminders are already due
+    private void scheduleDueEvents(ReminderService reminderService, int count) {
+        for (long id = 1; id <= count; id++) {
+            JobEvent event = new JobEvent();
+            event.setId(id);
+            event.setCompanyName("Acme " + id);
+            event.setSubject("Round " + id);
+            event.setEventType("Interview");
+            event.setEventDate(LocalDateTime.now().plusMinutes(30));
+            events.add(event);
+            reminderService.schedule(event);
+        }
+    }
+
+    private static JavaMailSenderImpl greenMailSender() {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        return mailSender;
+    }
+}
@@ -0,0 +1,130 @@
+package com.personal.assistant.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReminderWheelTest {
+
+    // One millisecond per tick, so deadlines below are tick numbers
+    private static final long TICK = 1;
+
+    @ParameterizedTest
+    @ValueSource(longs = {1, 63, 64, 65, 4095, 4096, 4097, 262143, 262144, 262145, 16777215})
+    void firesExactlyAtDeadlineAcrossLevelBoundaries(long deadline) {
+        ReminderWheel wheel = new ReminderWheel(TICK, 0);
+        wheel.schedule(7, deadline);
+
+        assertEquals(List.of(), wheel.advance(deadline - 1));
+        assertEquals(List.of(7L), wheel.advance(deadline));
+        assertEquals(0, wheel.size());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {63, 4095, 262143})
+    void firesAtDeadlineWhenStartIsNotAligned(long start) {
+        ReminderWheel wheel = new ReminderWheel(TICK, start);
+        long deadline = start + 4095;
+        wheel.schedule(7, deadline);
+
+        assertEquals(List.of(), wheel.advance(deadline - 1));
+        assertEquals(List.of(7L), wheel.advance(deadline));
+    }
+
+    @Test
+    void holdsDeadlinesBeyondTopLevelInOverflow() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 0);
+        long deadline = (1L << 24) + 5; // Past 64^4 ticks
+        wheel.schedule(7, deadline);
+
+        assertEquals(List.of(), wheel.advance(1L << 24));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(), wheel.advance(deadline - 1));
+        assertEquals(List.of(7L), wheel.advance(deadline));
+    }
+
+    @Test
+    void removedEntriesNeverFire() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 0);
+        wheel.schedule(7, 100);
+        wheel.schedule(8, 5000);
+
+        assertTrue(wheel.remove(7));
+        assertFalse(wheel.remove(7));
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(8L), wheel.advance(5000));
+    }
+
+    @Test
+    void alreadyDueEntriesAreReturnedOnNextAdvance() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 1000);
+        wheel.schedule(7, 1000);
+        wheel.schedule(8, 10);
+
+        assertEquals(List.of(7L, 8L), wheel.advance(1000));
+        assertEquals(List.of(), wheel.advance(1000));
+    }
+
+    @Test
+    void alreadyDueEntriesCanBeRemoved() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 1000);
+        wheel.schedule(7, 10);
+
+        assertTrue(wheel.remove(7));
+        assertEquals(List.of(), wheel.advance(1000));
+    }
+
+    @Test
+    void schedulingAgainMovesTheEntry() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 0);
+        wheel.schedule(7, 5000);
+        wheel.schedule(7, 50);
+
+        assertEquals(1, wheel.size());
+        assertEquals(List.of(7L), wheel.advance(50));
+        assertEquals(List.of(), wheel.advance(5000));
+    }
+
+    @Test
+    void everyEntryFiresOnceInItsTick() {
+        ReminderWheel wheel = new ReminderWheel(TICK, 0);
+        Random random = new Random(42);
+        long[] deadlines = new long[5000];
+        for (int id = 0; id < deadlines.length; id++) {
+            deadlines[id] = 1 + random.nextInt(300_000);
+            wheel.schedule(id, deadlines[id]);
+        }
+
+        Set<Long> fired = new HashSet<>();
+        long now = 0;
+        while (now < 300_000) {
+            long previous = now;
+            now += 1 + random.nextInt(500);
+            for (Long id : wheel.advance(now)) {
+                long deadline = deadlines[id.intValue()];
+                assertTrue(deadline > previous && deadline <= now, "id " + id + " fired outside its window");
+                assertTrue(fired.add(id), "id " + id + " fired twice");
+            }
+        }
+        assertEquals(deadlines.length, fired.size());
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void ticksAreWiderThanOneMillisecond() {
+        ReminderWheel wheel = new ReminderWheel(60_000, 0);
+        wheel.schedule(7, 90_000); // Falls in the tick starting at 60s
+
+        assertEquals(List.of(), wheel.advance(59_999));
+        assertEquals(List.of(7L), wheel.advance(60_000));
+    }
+}
@@ -0,0 +1,87 @@
+package com.personal.assistant.service;
+
+import com.personal.assistant.entity.JobEvent;
+import com.personal.assistant.repository.JobEventRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UpcomingEventCacheTest {
+
+    private final JobEventRepository jobEventRepository = mock(JobEventRepository.class);
+    private final UpcomingEventCache cache = new UpcomingEventCache(jobEventRepository, 10);
+
+    @Test
+    void loadsOnceAndServesInDateOrder() {
+        JobEvent later = event(1, 120);
+        JobEvent sooner = event(2, 60);
+        when(jobEventRepository.findByEventDateAfterOrderByEventDateAsc(any())).thenReturn(List.of(sooner, later));
+
+        assertEquals(List.of(sooner, later), cache.getUpcoming("me"));
+        assertEquals(List.of(sooner, later), cache.getUpcoming("me"));
+        verify(jobEventRepository, times(1)).findByEventDateAfterOrderByEventDateAsc(any());
+    }
+
+    @Test
+    void keepsWritesThatCommitWhileLoading() {
+        JobEvent stored = event(1, 60);
+        JobEvent synced = event(2, 30);
+        when(jobEventRepository.findByEventDateAfterOrderByEventDateAsc(any())).thenAnswer(invocation -> {
+            cache.put("me", synced); // A sync commits after the query read its snapshot
+            return List.of(stored);
+        });
+
+        assertEquals(List.of(synced, stored), cache.getUpcoming("me"));
+    }
+
+    @Test
+    void dropsRowsDeletedWhileLoading() {
+        JobEvent kept = event(1, 60);
+        JobEvent deleted = event(2, 30);
+        when(jobEventRepository.findByEventDateAfterOrderByEventDateAsc(any())).thenAnswer(invocation -> {
+            cache.remove("me", List.of(deleted)); // Deleted after the query read it
+            return List.of(deleted, kept);
+        });
+
+        assertEquals(List.of(kept), cache.getUpcoming("me"));
+    }
+
+    @Test
+    void writeThroughReplacesCachedCopy() {
+        JobEvent event = event(1, 60);
+        when(jobEventRepository.findByEventDateAfterOrderByEventDateAsc(any())).thenReturn(List.of(event));
+        cache.getUpcoming("me");
+
+        JobEvent reminded = event(1, 60);
+        reminded.setEventDate(event.getEventDate());
+        reminded.setReminded(true);
+        cache.put("me", reminded);
+
+        assertEquals(List.of(reminded), cache.getUpcoming("me"));
+    }
+
+    @Test
+    void dropsEventsThatHaveStarted() {
+        JobEvent started = event(1, -1); // Loaded while still upcoming
+        JobEvent upcoming = event(2, 120);
+        when(jobEventRepository.findByEventDateAfterOrderByEventDateAsc(any())).thenReturn(List.of(started, upcoming));
+
+        assertEquals(List.of(upcoming), cache.getUpcoming("me"));
+    }
+
+    private static JobEvent event(long id, long minutesFromNow) {
+        JobEvent event = new JobEvent();
+        event.setId(id);
+        event.setEventType("Interview");
+        event.setEventDate(LocalDateTime.now().plusMinutes(minutesFromNow));
+        return event;
+    }
+}
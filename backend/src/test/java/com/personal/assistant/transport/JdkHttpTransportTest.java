@@ -0,0 +1,136 @@
+package com.personal.assistant.transport;
+
+import com.google.api.client.http.GenericUrl;
+import com.google.api.client.http.HttpRequest;
+import com.google.api.client.http.HttpResponse;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JdkHttpTransportTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final Set<Integer> connections = ConcurrentHashMap.newKeySet();
+    private HttpServer server;
+    private JdkHttpTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/ok", exchange -> {
+            byte[] body = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        });
+        // Sends the headers and half the body, then stalls
+        server.createContext("/stall", exchange -> {
+            exchange.sendResponseHeaders(200, 100);
+            OutputStream out = exchange.getResponseBody();
+            out.write(new byte[50]);
+            out.flush();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        // Holds each request briefly and records which client connection it came in on
+        server.createContext("/slow", exchange -> {
+            connections.add(exchange.getRemoteAddress().getPort());
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.setExecutor(Executors.newCachedThreadPool()); // The stalled handler must not block the others
+        server.start();
+        transport = new JdkHttpTransport(1, Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void readsResponse() throws IOException {
+        HttpResponse response = request("/ok", 2000).execute();
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("application/json", response.getContentType());
+        assertEquals("{\"id\":\"1\"}", response.parseAsString());
+    }
+
+    @Test
+    void readTimeoutCoversStalledBody() {
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            HttpRequest stalled = request("/stall", 300);
+            assertThrows(HttpTimeoutException.class, stalled::execute);
+        });
+    }
+
+    @Test
+    void stalledBodyReleasesPermitAfterTimeout() {
+        // A single permit, so the second call only runs once the first gave it back
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertThrows(HttpTimeoutException.class, request("/stall", 300)::execute);
+            assertEquals(200, request("/ok", 2000).execute().getStatusCode());
+        });
+    }
+
+    @Test
+    void openConnectionsStayWithinRequestLimit() throws Exception {
+        transport = new JdkHttpTransport(2, Duration.ofSeconds(5));
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                calls.add(callers.submit(() -> request("/slow", 2000).execute().getStatusCode()));
+            }
+            for (Future<Integer> call : calls) {
+                assertEquals(204, call.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        assertTrue(connections.size() <= 2, "opened " + connections.size() + " connections");
+    }
+
+    private HttpRequest request(String path, int readTimeout) throws IOException {
+        HttpRequest request = transport.createRequestFactory()
+                .buildGetRequest(new GenericUrl("http://127.0.0.1:" + server.getAddress().getPort() + path));
+        request.setReadTimeout(readTimeout);
+        request.setNumberOfRetries(0);
+        return request;
+    }
+}
@@ -1,9 +1,15 @@
 import React, { useEffect, useState } from 'react';
-import { getEvents, logout, syncEvents, getUserInfo } from '../services/api';
+import { getUpcomingEvents, getPastEvents, getEventStats, logout, syncEvents, getUserInfo } from '../services/api';
 import { useNavigate } from 'react-router-dom';
 
+const PAST_PAGE_SIZE = 20;
+
 const Dashboard = () => {
-    const [events, setEvents] = useState([]);
+    const [upcomingEvents, setUpcomingEvents] = useState([]);
+    const [pastEvents, setPastEvents] = useState([]);
+    const [pastPage, setPastPage] = useState(0);
+    const [hasMorePast, setHasMorePast] = useState(false);
+    const [stats, setStats] = useState(null);
     const [loading, setLoading] = useState(true);
     const [syncing, setSyncing] = useState(false);
     const [filter, setFilter] = useState('All');
@@ -12,20 +18,38 @@ const Dashboard = () => {
 
     useEffect(() => {
         fetchEvents();
+        fetchStats();
         fetchUserInfo();
     }, []);
 
+    const fetchStats = async () => {
+        const data = await getEventStats(0); // Only the counters, upcoming events are loaded separately
+        setStats(data);
+    };
+
     const fetchUserInfo = async () => {
         const data = await getUserInfo();
         setUserInfo(data);
     };
 
+    // Upcoming events come from the server side cache, history is paged in on demand
     const fetchEvents = async () => {
-        const data = await getEvents();
-        setEvents(data);
+        const [upcoming, past] = await Promise.all([getUpcomingEvents(), getPastEvents(0, PAST_PAGE_SIZE)]);
+        setUpcomingEvents(upcoming);
+        setPastEvents(past);
+        setPastPage(0);
+        setHasMorePast(past.length === PAST_PAGE_SIZE);
         setLoading(false);
     };
 
+    const loadMorePast = async () => {
+        const next = pastPage + 1;
+        const past = await getPastEvents(next, PAST_PAGE_SIZE);
+        setPastEvents(prev => [...prev, ...past]);
+        setPastPage(next);
+        setHasMorePast(past.length === PAST_PAGE_SIZE);
+    };
+
     const handleLogout = async () => {
         await logout();
         navigate('/login');
@@ -35,6 +59,7 @@ const Dashboard = () => {
         setSyncing(true);
         await syncEvents();
         await fetchEvents();
+        await fetchStats();
         setSyncing(false);
     };
 
@@ -54,14 +79,86 @@ const Dashboard = () => {
         }
     };
 
-    const filteredEvents = events.filter(event => {
+    // Counters come from the server side aggregates, not from the loaded events
+    const countFor = (f) => {
+        if (!stats) return null;
+        const byType = stats.byType || {};
+        if (f === 'All') return stats.total;
+        if (f === 'Other') return stats.total - (byType.Interview || 0) - (byType.Exam || 0) - (byType.Registration || 0);
+        return byType[f] || 0;
+    };
+
+    const matchesFilter = (event) => {
         if (filter === 'All') return true;
         if (filter === 'Interview') return event.eventType === 'Interview';
         if (filter === 'Exam') return event.eventType === 'Exam';
         if (filter === 'Registration') return event.eventType === 'Registration';
         if (filter === 'Other') return event.eventType !== 'Interview' && event.eventType !== 'Exam' && event.eventType !== 'Registration';
         return true;
-    });
+    };
+
+    const filteredUpcoming = upcomingEvents.filter(matchesFilter);
+    const filteredPast = pastEvents.filter(matchesFilter);
+
+    const renderEvent = (event) => {
+        const isUrgent = event.eventType === 'Exam' || event.eventType === 'Interview';
+        const cardStyle = isUrgent ? { borderLeft: '4px solid var(--danger-color)' } : { borderLeft: '4px solid var(--success-color)' };
+
+        return (
+            <div key={event.id} className="glass-card" style={{ ...cardStyle }}>
+                <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'flex-start', marginBottom: '1rem' }}>
+                    <span style={{
+                        fontSize: '0.75rem',
+                        textTransform: 'uppercase',
+                        letterSpacing: '0.05em',
+                        padding: '4px 8px',
+                        borderRadius: '4px',
+                        background: isUrgent ? 'rgba(239, 68, 68, 0.2)' : 'rgba(34, 197, 94, 0.2)',
+                        color: isUrgent ? '#fca5a5' : '#86efac'
+                    }}>
+                        {event.eventType}
+                    </span>
+                    <span style={{ fontSize: '0.875rem', color: 'var(--text-secondary)' }}>
+                        {formatDate(event.eventDate)}
+                    </span>
+                </div>
+                <h3 style={{ fontSize: '1.25rem', marginBottom: '0.25rem' }}>Subject: {event.subject || event.companyName}</h3>
+                <p style={{ fontSize: '0.9rem', color: 'var(--text-primary)', fontWeight: 'bold', marginBottom: '0.5rem' }}>
+                    {event.companyName}
+                </p>
+                {event.senderEmail && (
+                    <p style={{ fontSize: '0.85rem', color: 'var(--text-secondary)', marginBottom: '0.5rem' }}>
+                        From: {event.senderEmail}
+                    </p>
+                )}
+                {event.actionLink && (
+                    <a
+                        href={event.actionLink}
+                        target="_blank"
+                        rel="noopener noreferrer"
+                        style={{ color: 'var(--accent-color)', textDecoration: 'none', fontSize: '0.9rem', display: 'inline-block', marginTop: '0.5rem' }}
+                    >
+                        View Link &rarr;
+                    </a>
+                )}
+            </div>
+        );
+    };
+
+    const renderSection = (title, sectionEvents, emptyText) => (
+        <>
+            <h2 style={{ fontSize: '1.5rem', margin: '0 0 1rem' }}>{title}</h2>
+            <div style={{ display: 'grid', gridTemplateColumns: 'repeat(2, 1fr)', gap: '1.5rem', marginBottom: '2rem' }}>
+                {sectionEvents.map(renderEvent)}
+
+                {sectionEvents.length === 0 && (
+                    <div className="glass-card" style={{ gridColumn: '1 / -1', textAlign: 'center', padding: '3rem' }}>
+                        <p style={{ color: 'var(--text-secondary)' }}>{emptyText}</p>
+                    </div>
+                )}
+            </div>
+        </>
+    );
 
     if (loading) {
         return <div className="container" style={{ textAlign: 'center', marginTop: '5rem' }}>Loading...</div>;
@@ -108,7 +205,7 @@ const Dashboard = () => {
                                     color: 'var(--text-primary)'
                                 }}
                             >
-                                {f}
+                                {f}{countFor(f) !== null && ` (${countFor(f)})`}
                             </button>
                         ))}
                     </div>
@@ -137,55 +234,19 @@ const Dashboard = () => {
                 </div>
             </header>
 
-            <div style={{ display: 'grid', gridTemplateColumns: 'repeat(2, 1fr)', gap: '1.5rem', flex: 1 }}>
-                {filteredEvents.map((event) => {
-                    const isUrgent = event.eventType === 'Exam' || event.eventType === 'Interview';
-                    const cardStyle = isUrgent ? { borderLeft: '4px solid var(--danger-color)' } : { borderLeft: '4px solid var(--success-color)' };
-
-                    return (
-                        <div key={event.id} className="glass-card" style={{ ...cardStyle }}>
-                            <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'flex-start', marginBottom: '1rem' }}>
-                                <span style={{
-                                    fontSize: '0.75rem',
-                                    textTransform: 'uppercase',
-                                    letterSpacing: '0.05em',
-                                    padding: '4px 8px',
-                                    borderRadius: '4px',
-                                    background: isUrgent ? 'rgba(239, 68, 68, 0.2)' : 'rgba(34, 197, 94, 0.2)',
-                                    color: isUrgent ? '#fca5a5' : '#86efac'
-                                }}>
-                                    {event.eventType}
-                                </span>
-                                <span style={{ fontSize: '0.875rem', color: 'var(--text-secondary)' }}>
-                                    {formatDate(event.eventDate)}
-                                </span>
-                            </div>
-                            <h3 style={{ fontSize: '1.25rem', marginBottom: '0.25rem' }}>Subject: {event.subject || event.companyName}</h3>
-                            <p style={{ fontSize: '0.9rem', color: 'var(--text-primary)', fontWeight: 'bold', marginBottom: '0.5rem' }}>
-                                {event.companyName}
-                            </p>
-                            {event.senderEmail && (
-                                <p style={{ fontSize: '0.85rem', color: 'var(--text-secondary)', marginBottom: '0.5rem' }}>
-                                    From: {event.senderEmail}
-                                </p>
-                            )}
-                            {event.actionLink && (
-                                <a
-                                    href={event.actionLink}
-                                    target="_blank"
-                                    rel="noopener noreferrer"
-                                    style={{ color: 'var(--accent-color)', textDecoration: 'none', fontSize: '0.9rem', display: 'inline-block', marginTop: '0.5rem' }}
-                                >
-                                    View Link &rarr;
-                                </a>
-                            )}
-                        </div>
-                    );
-                })}
-
-                {filteredEvents.length === 0 && (
-                    <div className="glass-card" style={{ gridColumn: '1 / -1', textAlign: 'center', padding: '3rem' }}>
-                        <p style={{ color: 'var(--text-secondary)' }}>No events found for this filter.</p>
+            <div style={{ flex: 1 }}>
+                {renderSection('Upcoming', filteredUpcoming, 'No upcoming events for this filter.')}
+                {renderSection('Past', filteredPast, 'No past events found for this filter.')}
+
+                {hasMorePast && (
+                    <div style={{ textAlign: 'center' }}>
+                        <button
+                            onClick={loadMorePast}
+                            className="btn-secondary"
+                            style={{ padding: '0.75rem 2rem', fontSize: '1rem', borderRadius: '12px' }}
+                        >
+                            Load More
+                        </button>
                     </div>
                 )}
             </div>
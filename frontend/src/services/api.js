@@ -4,12 +4,43 @@ const api = axios.create({
     baseURL: import.meta.env.VITE_API_URL || 'http://localhost:9090',
 });
 
-export const getEvents = async () => {
+
+export const getUpcomingEvents = async () => {
+    try {
+        const response = await api.get('/api/events/upcoming');
+        return response.data;
+    } catch (error) {
+        console.error("Error fetching upcoming events", error);
+        return [];
+    }
+};
+
+export const getPastEvents = async (page = 0, size = 20) => {
+    try {
+        const response = await api.get('/api/events/past', { params: { page, size } });
+        return response.data;
+    } catch (error) {
+        console.error("Error fetching past events", error);
+        return [];
+    }
+};
+
+export const getEventStats = async (upcoming = 5) => {
+    try {
+        const response = await api.get('/api/events/stats', { params: { upcoming } });
+        return response.data;
+    } catch (error) {
+        console.error("Error fetching event stats", error);
+        return null;
+    }
+};
+
+export const searchEvents = async (q, limit = 20) => {
     try {
-        const response = await api.get('/api/events');
+        const response = await api.get('/api/events/search', { params: { q, limit } });
         return response.data;
     } catch (error) {
-        console.error("Error fetching events", error);
+        console.error("Error searching events", error);
         return [];
     }
 };